@@ -1,3 +1,5 @@
+import groovy.json.JsonSlurper
+
 plugins {
     alias(libs.plugins.android.application)
 }
@@ -31,6 +33,115 @@ android {
     }
 }
 
+/**
+ * Checks src/main/assets/games.json and turns it into GameTable.java, so the app never parses
+ * the file or calls getIdentifier() at runtime. Fails the build when an entry is malformed
+ * or names a drawable that does not exist.
+ */
+abstract class GenerateGameTableTask : DefaultTask() {
+
+    @get:InputFile
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val gamesJson: RegularFileProperty
+
+    @get:InputFiles
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val drawables: ConfigurableFileCollection
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @TaskAction
+    fun generate() {
+        val source = gamesJson.get().asFile
+        val games = JsonSlurper().parse(source) as? List<*>
+            ?: throw GradleException("${source.name}: expected a JSON array")
+        val drawableNames = drawables.files.map { it.name.substringBefore('.') }.toSet()
+
+        val problems = mutableListOf<String>()
+        val ids = mutableSetOf<String>()
+        val categories = mutableSetOf<Int>()
+        val rows = mutableListOf<String>()
+        games.forEachIndexed { index, element ->
+            val game = element as? Map<*, *>
+            if (game == null) {
+                problems += "entry $index is not an object"
+                return@forEachIndexed
+            }
+            val drawable = game["drawable"] as? String ?: ""
+            val id = game["id"] as? String ?: drawable
+            val name = game["name"] as? String ?: ""
+            val description = game["description"] as? String ?: ""
+            val requiresZone = game["isUsingServerZone"] as? Boolean ?: false
+            val categoryNo = (game["no"] as? Number)?.toInt() ?: -1
+
+            if (id.isEmpty()) problems += "entry $index has no id"
+            if (!ids.add(id)) problems += "duplicate id '$id'"
+            if (name.isEmpty()) problems += "'$id' has no name"
+            if (categoryNo < 0) problems += "'$id' has no category \"no\""
+            if (categoryNo >= 0 && !categories.add(categoryNo)) problems += "duplicate category $categoryNo ('$id')"
+            if (!drawable.matches(Regex("[a-z][a-z0-9_]*")) || drawable !in drawableNames) {
+                problems += "'$id' uses missing drawable '$drawable'"
+            }
+
+            rows += "                new GameEntry(${javaString(id)}, ${javaString(name)}, " +
+                "${javaString(description)},\n                        R.drawable.$drawable, $requiresZone, $categoryNo)"
+        }
+        if (problems.isNotEmpty()) {
+            throw GradleException("${source.name} is invalid:\n  " + problems.joinToString("\n  "))
+        }
+
+        val outFile = outputDir.get().file("com/gamex/app/GameTable.java").asFile
+        outFile.parentFile.mkdirs()
+        outFile.writeText(
+            """
+            |package com.gamex.app;
+            |
+            |// Generated by :app:generateGameTable from games.json. Do not edit.
+            |final class GameTable {
+            |
+            |    private GameTable() {
+            |    }
+            |
+            |    static GameEntry[] entries() {
+            |        return new GameEntry[] {
+            |${rows.joinToString(",\n")}
+            |        };
+            |    }
+            |}
+            |""".trimMargin()
+        )
+    }
+
+    private fun javaString(value: String): String {
+        val out = StringBuilder("\"")
+        for (c in value) {
+            when {
+                c == '"' -> out.append("\\\"")
+                c == '\\' -> out.append("\\\\")
+                c == '\n' -> out.append("\\n")
+                c == '\r' -> out.append("\\r")
+                c == '\t' -> out.append("\\t")
+                c < ' ' || c > '~' -> out.append(String.format("\\u%04x", c.code))
+                else -> out.append(c)
+            }
+        }
+        return out.append('"').toString()
+    }
+}
+
+val generateGameTable = tasks.register<GenerateGameTableTask>("generateGameTable") {
+    gamesJson.set(layout.projectDirectory.file("src/main/assets/games.json"))
+    drawables.from(fileTree("src/main/res") { include("drawable*/**") })
+    outputDir.set(layout.buildDirectory.dir("generated/source/gameTable"))
+}
+
+androidComponents {
+    onVariants { variant ->
+        variant.sources.java?.addGeneratedSourceDirectory(generateGameTable, GenerateGameTableTask::outputDir)
+    }
+}
+
 dependencies {
     implementation(libs.appcompat)
     implementation(libs.material)
@@ -1,15 +1,23 @@
 package com.gamex.app;
 
+import android.content.pm.ApplicationInfo;
 import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
+import android.graphics.Typeface;
 import android.os.Bundle;
 import android.util.Log;
+import android.widget.HorizontalScrollView;
 import android.widget.ImageView;
+import android.widget.ScrollView;
 import android.widget.TextView;
 
 import androidx.activity.EdgeToEdge;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 
+import java.io.File;
+import java.io.IOException;
+
 public class AboutActivity extends AppCompatActivity {
 
     private static final String TAG = "AboutActivity";
@@ -44,5 +52,49 @@ public class AboutActivity extends AppCompatActivity {
             versionText.setText("1.0.0");
             buildText.setText("1");
         }
+
+        if ((getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0) {
+            // Debug builds only: long-press the version for network timings and counters.
+            versionText.setOnLongClickListener(v -> {
+                showNetworkMetrics();
+                return true;
+            });
+        }
+    }
+
+    private void showNetworkMetrics() {
+        String report = networkReport();
+        AppExecutors.diskIO().execute(() -> {
+            try {
+                File file = NetworkMetrics.writeReport(getApplicationContext(), report);
+                Log.i(TAG, "Network metrics written to " + file);
+            } catch (IOException e) {
+                Log.w(TAG, "Failed to write network metrics", e);
+            }
+        });
+
+        TextView reportView = new TextView(this);
+        reportView.setTypeface(Typeface.MONOSPACE);
+        reportView.setTextSize(10f);
+        int padding = (int) (16 * getResources().getDisplayMetrics().density);
+        reportView.setPadding(padding, padding, padding, padding);
+        reportView.setText(report);
+        HorizontalScrollView horizontal = new HorizontalScrollView(this);
+        horizontal.addView(reportView);
+        ScrollView scroll = new ScrollView(this);
+        scroll.addView(horizontal);
+
+        new AlertDialog.Builder(this)
+                .setTitle("Network metrics")
+                .setView(scroll)
+                .setPositiveButton(android.R.string.ok, null)
+                .show();
+    }
+
+    private static String networkReport() {
+        return NetworkMetrics.report()
+                + "\nhttp cache: " + HttpCacheStats.summary()
+                + "\ncoalesced GETs: sent=" + ApiService.coalescedRequestCount()
+                + " collapsed=" + ApiService.collapsedCallCount() + "\n";
     }
 }
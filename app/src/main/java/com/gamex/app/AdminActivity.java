@@ -10,9 +10,7 @@ import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
 
-import com.gamex.app.models.PaginatedTransactionsResponse;
-import com.gamex.app.models.PaginatedUsersResponse;
-import com.gamex.app.models.UserResponse;
+import com.gamex.app.models.User;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 
@@ -34,7 +32,7 @@ public class AdminActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_admin);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         adminName = findViewById(R.id.adminName);
         totalUsers = findViewById(R.id.totalUsers);
@@ -76,37 +74,43 @@ public class AdminActivity extends AppCompatActivity {
         loadDashboardStats();
     }
 
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
-
     private void loadAdminProfile() {
-        if (!NetworkUtils.isNetworkAvailable(this)) {
-            adminName.setText(R.string.admin_welcome_error);
+        UserSession session = UserSession.getInstance();
+        User cached = session.getUser();
+        if (!session.isFresh() && !NetworkUtils.isNetworkAvailable(this)) {
+            if (cached == null) {
+                adminName.setText(R.string.admin_welcome_error);
+            }
             DialogUtils.showNoInternetDialog(this, (dialog, which) -> loadAdminProfile());
             return;
         }
 
-        apiService.fetchUserBalance(this, new ApiService.UserCallback() {
+        if (cached != null) {
+            showAdminName(cached);
+            if (session.isFresh()) {
+                return;
+            }
+        }
+        session.requestUser(this, this, new UserSession.Listener() {
             @Override
-            public void onSuccess(UserResponse userResponse) {
-                if (userResponse != null && userResponse.getUser() != null) {
-                    String name = userResponse.getUser().getName();
-                    adminName.setText(getString(R.string.admin_welcome, name != null ? name : "Admin"));
-                }
+            public void onUserChanged(User user) {
+                showAdminName(user);
             }
 
             @Override
-            public void onError(String errorMessage) {
-                adminName.setText(R.string.admin_welcome_error);
+            public void onUserError(String errorMessage) {
+                if (UserSession.getInstance().getUser() == null) {
+                    adminName.setText(R.string.admin_welcome_error);
+                }
             }
         });
     }
 
+    private void showAdminName(User user) {
+        String name = user.getName();
+        adminName.setText(getString(R.string.admin_welcome, name != null ? name : "Admin"));
+    }
+
     private void loadDashboardStats() {
         if (!NetworkUtils.isNetworkAvailable(this)) {
             totalUsers.setText("0");
@@ -114,37 +118,25 @@ public class AdminActivity extends AppCompatActivity {
             return;
         }
 
-        // Load total transactions
-        apiService.fetchAllTransactions(this, 1, new ApiService.PaginatedTransactionsCallback() {
+        apiService.fetchDashboardStats(this, new ApiService.DashboardStatsCallback() {
             @Override
-            public void onSuccess(PaginatedTransactionsResponse response) {
-                if (response != null) {
-                    totalOrders.setText(String.valueOf(response.getTotal()));
-                }
+            public void onSuccess(DashboardStats stats) {
+                totalOrders.setText(formatCount(stats.getTotalOrders()));
+                totalUsers.setText(formatCount(stats.getTotalUsers()));
             }
 
             @Override
             public void onError(String errorMessage) {
                 totalOrders.setText("0");
-            }
-        });
-
-        // Load total users
-        apiService.fetchAdminUsers(this, 1, new ApiService.PaginatedUsersCallback() {
-            @Override
-            public void onSuccess(PaginatedUsersResponse response) {
-                if (response != null) {
-                    totalUsers.setText(String.valueOf(response.getTotal()));
-                }
-            }
-
-            @Override
-            public void onError(String errorMessage) {
                 totalUsers.setText("0");
             }
         });
     }
 
+    private static String formatCount(int count) {
+        return count == DashboardStats.UNKNOWN ? "0" : String.valueOf(count);
+    }
+
     private void openProfileActivity() {
         Intent intent = new Intent(this, ProfileActivity.class);
         startActivity(intent);
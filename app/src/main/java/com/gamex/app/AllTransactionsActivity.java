@@ -35,7 +35,7 @@ public class AllTransactionsActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_all_transactions);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         MaterialToolbar toolbar = findViewById(R.id.toolbar);
         toolbar.setNavigationOnClickListener(v -> finish());
@@ -85,19 +85,22 @@ public class AllTransactionsActivity extends AppCompatActivity {
         apiService.fetchAllTransactions(this, page, new ApiService.PaginatedTransactionsCallback() {
             @Override
             public void onSuccess(PaginatedTransactionsResponse response) {
-                swipeRefresh.setRefreshing(false);
-                loadingView.setVisibility(View.GONE);
-
                 if (response != null && response.getData() != null && !response.getData().isEmpty()) {
-                    adapter.setTransactions(response.getData());
-                    recyclerView.setVisibility(View.VISIBLE);
-                    emptyView.setVisibility(View.GONE);
-
-                    currentPage = response.getCurrentPage();
-                    lastPage = response.getLastPage();
-
-                    updatePaginationControls();
+                    RowMapper.mapTransactions(AllTransactionsActivity.this, response.getData(), rows -> {
+                        swipeRefresh.setRefreshing(false);
+                        loadingView.setVisibility(View.GONE);
+                        adapter.setRows(rows);
+                        recyclerView.setVisibility(View.VISIBLE);
+                        emptyView.setVisibility(View.GONE);
+
+                        currentPage = response.getCurrentPage();
+                        lastPage = response.getLastPage();
+
+                        updatePaginationControls();
+                    });
                 } else {
+                    swipeRefresh.setRefreshing(false);
+                    loadingView.setVisibility(View.GONE);
                     recyclerView.setVisibility(View.GONE);
                     emptyView.setVisibility(View.VISIBLE);
                 }
@@ -120,12 +123,4 @@ public class AllTransactionsActivity extends AppCompatActivity {
         btnPrevious.setEnabled(currentPage > 1);
         btnNext.setEnabled(currentPage < lastPage);
     }
-
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
 }
@@ -2,66 +2,35 @@ package com.gamex.app;
 
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
- * Small helper for making JSON POST requests without adding extra dependencies.
+ * Small helper for the unauthenticated JSON POSTs (login, register). Requests go through the
+ * shared {@link HttpClientProvider#getClient() client}, so the connection opened here is
+ * still warm for the first authenticated call afterwards.
  */
 public final class ApiClient {
 
-    private static final int TIMEOUT_MS = 15000;
-
     private ApiClient() {
         // No instances.
     }
 
     public static ApiResponse postJson(String urlString, JSONObject payload) throws IOException {
-        HttpURLConnection connection = null;
-        try {
-            URL url = new URL(urlString);
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setConnectTimeout(TIMEOUT_MS);
-            connection.setReadTimeout(TIMEOUT_MS);
-            connection.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
-            connection.setRequestProperty("Accept", "application/json");
-            connection.setDoOutput(true);
-
-            byte[] body = payload.toString().getBytes(StandardCharsets.UTF_8);
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(body);
-                os.flush();
-            }
-
-            int statusCode = connection.getResponseCode();
-            InputStream stream = statusCode >= HttpURLConnection.HTTP_BAD_REQUEST
-                    ? connection.getErrorStream()
-                    : connection.getInputStream();
-            String responseBody = stream != null ? readStream(stream) : "";
-            return new ApiResponse(statusCode, responseBody);
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
-        }
-    }
-
-    private static String readStream(InputStream stream) throws IOException {
-        StringBuilder builder = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                builder.append(line);
-            }
+        Request request = new Request.Builder()
+                .url(urlString)
+                .addHeader("Accept", "application/json")
+                .post(RequestBody.create(payload.toString(), JsonBodies.JSON))
+                .build();
+
+        try (Response response = HttpClientProvider.getClient().newCall(request).execute()) {
+            ResponseBody body = response.body();
+            return new ApiResponse(response.code(), body != null ? body.string() : "");
         }
-        return builder.toString();
     }
 
     public static final class ApiResponse {
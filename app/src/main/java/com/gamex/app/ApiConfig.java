@@ -12,6 +12,14 @@ public final class ApiConfig {
         return BASE_URL;
     }
 
+    public static String getLoginEndpoint() {
+        return BASE_URL + "api/auth/login";
+    }
+
+    public static String getRegisterEndpoint() {
+        return BASE_URL + "api/auth/register";
+    }
+
     public static String getBalanceEndpoint() {
         return BASE_URL + "api/auth/me";
     }
@@ -60,6 +68,11 @@ public final class ApiConfig {
         return BASE_URL + "api/transactions?page=" + page;
     }
 
+    /** Smallest page the list can serve; only its {@code total} is read. */
+    public static String getAllTransactionsCountEndpoint() {
+        return BASE_URL + "api/transactions?page=1&per_page=1";
+    }
+
     public static String getAdminUsersEndpoint() {
         return BASE_URL + "api/admin/users";
     }
@@ -68,6 +81,11 @@ public final class ApiConfig {
         return BASE_URL + "api/admin/users?page=" + page;
     }
 
+    /** Smallest page the list can serve; only its {@code total} is read. */
+    public static String getAdminUsersCountEndpoint() {
+        return BASE_URL + "api/admin/users?page=1&per_page=1";
+    }
+
     public static String getAdminUserEndpoint(int userId) {
         return BASE_URL + "api/admin/users/" + userId;
     }
@@ -4,11 +4,17 @@ import android.content.Context;
 import android.os.Handler;
 import android.os.Looper;
 
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
 import com.gamex.app.models.CreateUserRequest;
 import com.gamex.app.models.DepositRequest;
 import com.gamex.app.models.DepositResponse;
 import com.gamex.app.models.MessageResponse;
 import com.gamex.app.models.MyTransactionsResponse;
+import com.gamex.app.models.PageTotalResponse;
 import com.gamex.app.models.PaginatedTransactionsResponse;
 import com.gamex.app.models.PaginatedUsersResponse;
 import com.gamex.app.models.ProductResponse;
@@ -22,10 +28,13 @@ import com.gamex.app.models.UserResponse;
 import com.google.gson.Gson;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import okhttp3.MediaType;
+import okhttp3.Call;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -33,16 +42,50 @@ import okhttp3.Response;
 
 public class ApiService {
 
-    private final ExecutorService executorService;
+    /*
+     * Identical GETs issued while one is already in flight (same URL and token) wait for
+     * that call instead of making their own; see SingleFlight.
+     */
+    private static final SingleFlight<Waiter<UserCallback>> USER_FLIGHTS = new SingleFlight<>();
+    private static final SingleFlight<Waiter<MyTransactionsCallback>> MY_TRANSACTIONS_FLIGHTS = new SingleFlight<>();
+
+    /** The request task currently running on this network thread. */
+    private static final ThreadLocal<TaskState> CURRENT_TASK = new ThreadLocal<TaskState>() {
+        @Override
+        protected TaskState initialValue() {
+            return new TaskState();
+        }
+    };
+
+    /** Running {@link RequestPriority#PREFETCH} calls of every ApiService, for preemption. */
+    private static final Set<Call> PREFETCH_CALLS = new HashSet<>();
+
+    private final PriorityExecutor executorService;
     private final Handler mainHandler;
     private final OkHttpClient client;
     private final Gson gson;
+    private final Set<Call> calls = new HashSet<>();
+    private volatile boolean shutDown;
 
     public ApiService() {
-        this.executorService = Executors.newSingleThreadExecutor();
+        this.executorService = AppExecutors.networkIO();
         this.mainHandler = new Handler(Looper.getMainLooper());
-        this.client = new OkHttpClient();
-        this.gson = new Gson();
+        this.client = HttpClientProvider.getClient();
+        this.gson = HttpClientProvider.getGson();
+    }
+
+    /**
+     * Ties this service to {@code owner}: when it is destroyed, calls still running are
+     * cancelled and callbacks not yet delivered are dropped, so nothing keeps the owner
+     * alive. Must be called on the main thread.
+     */
+    public ApiService(LifecycleOwner owner) {
+        this();
+        owner.getLifecycle().addObserver((LifecycleEventObserver) (source, event) -> {
+            if (event == Lifecycle.Event.ON_DESTROY) {
+                shutdown();
+            }
+        });
     }
 
     public interface UserCallback {
@@ -52,7 +95,8 @@ public class ApiService {
 
     public interface DepositCallback {
         void onSuccess(DepositResponse depositResponse);
-        void onError(String errorMessage);
+        /** @param statusCode HTTP status of the server's answer, or -1 if none arrived */
+        void onError(String errorMessage, int statusCode);
     }
 
     public interface ProductCallback {
@@ -85,6 +129,11 @@ public class ApiService {
         void onError(String errorMessage);
     }
 
+    public interface DashboardStatsCallback {
+        void onSuccess(DashboardStats stats);
+        void onError(String errorMessage);
+    }
+
     public interface UserManagementCallback {
         void onSuccess(User user);
         void onError(String errorMessage);
@@ -104,14 +153,20 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
+            return;
+        }
+
+        String url = ApiConfig.getBalanceEndpoint();
+        String key = flightKey("GET", url, token);
+        if (!USER_FLIGHTS.join(key, new Waiter<>(this, callback))) {
             return;
         }
 
         executorService.execute(() -> {
             try {
                 Request request = new Request.Builder()
-                    .url(ApiConfig.getBalanceEndpoint())
+                    .url(url)
                     .addHeader("Authorization", "Bearer " + token)
                     .addHeader("Accept", "application/json")
                     .build();
@@ -119,64 +174,72 @@ public class ApiService {
                 Response response = client.newCall(request).execute();
 
                 if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    UserResponse userResponse = gson.fromJson(responseBody, UserResponse.class);
+                    UserResponse userResponse = JsonBodies.read(gson, response.body(), UserResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(userResponse));
+                    for (Waiter<UserCallback> waiting : USER_FLIGHTS.finish(key)) {
+                        waiting.owner.post(() -> waiting.callback.onSuccess(userResponse));
+                    }
                 } else {
                     String errorMsg = "Error: " + response.code();
                     if (response.body() != null) {
                         errorMsg += " - " + response.body().string();
                     }
-                    final String finalErrorMsg = errorMsg;
-                    mainHandler.post(() -> callback.onError(finalErrorMsg));
+                    deliverUserError(key, errorMsg);
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                deliverUserError(key, "Network error: " + e.getMessage());
+            } catch (RuntimeException e) {
+                // Never leave the key open, or every later caller would wait forever.
+                deliverUserError(key, "Parse error: " + e.getMessage());
             }
         });
     }
 
-    public void createDeposit(Context context, int amount, DepositCallback callback) {
+    /**
+     * Creates a deposit. {@code idempotencyKey} must stay the same when the user resubmits
+     * the same deposit; connection failures are retried with it.
+     */
+    public void createDeposit(Context context, int amount, String idempotencyKey, DepositCallback callback) {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated", 401));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.INTERACTIVE, () -> {
             try {
                 DepositRequest depositRequest = new DepositRequest(amount);
-                String json = gson.toJson(depositRequest);
-
-                MediaType JSON = MediaType.parse("application/json; charset=utf-8");
-                RequestBody body = RequestBody.create(json, JSON);
+                RequestBody body = JsonBodies.create(gson, depositRequest);
 
                 Request request = new Request.Builder()
                     .url(ApiConfig.getDepositsEndpoint())
                     .addHeader("Authorization", "Bearer " + token)
                     .addHeader("Accept", "application/json")
+                    .addHeader(RetryPolicy.IDEMPOTENCY_HEADER, idempotencyKey)
                     .post(body)
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = RetryPolicy.CREATE.execute(this::newCall, request);
 
                 if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    DepositResponse depositResponse = gson.fromJson(responseBody, DepositResponse.class);
+                    DepositResponse depositResponse = JsonBodies.read(gson, response.body(), DepositResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(depositResponse));
+                    post(() -> {
+                        UserSession.getInstance().invalidate();
+                        callback.onSuccess(depositResponse);
+                    });
                 } else {
                     String errorMsg = "Error: " + response.code();
                     if (response.body() != null) {
                         errorMsg += " - " + response.body().string();
                     }
                     final String finalErrorMsg = errorMsg;
-                    mainHandler.post(() -> callback.onError(finalErrorMsg));
+                    int statusCode = response.code();
+                    post(() -> callback.onError(finalErrorMsg, statusCode));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage(), -1));
             }
         });
     }
@@ -185,11 +248,11 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated", 401));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.VISIBLE, () -> {
             try {
                 Request request = new Request.Builder()
                     .url(ApiConfig.getDepositStatusEndpoint(depositId))
@@ -197,103 +260,133 @@ public class ApiService {
                     .addHeader("Accept", "application/json")
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.body() != null) {
-                    String responseBody = response.body().string();
-                    DepositResponse depositResponse = gson.fromJson(responseBody, DepositResponse.class);
+                    DepositResponse depositResponse = JsonBodies.read(gson, response.body(), DepositResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(depositResponse));
+                    post(() -> callback.onSuccess(depositResponse));
                 } else {
-                    String errorMsg = "Error: " + response.code();
-                    mainHandler.post(() -> callback.onError(errorMsg));
+                    int statusCode = response.code();
+                    post(() -> callback.onError("Error: " + statusCode, statusCode));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage(), -1));
             }
         });
     }
 
+    /**
+     * Answers from {@link ProductCache} when it can: cached products are delivered right away
+     * and, once stale, refreshed in the background. The callback fires a second time only if
+     * the refreshed list differs. Without a cached copy this is a plain network fetch.
+     */
     public void fetchProducts(int categoryId, ProductCallback callback) {
-        executorService.execute(() -> {
+        ProductCache.Entry cached = ProductCache.getInstance().get(categoryId);
+        if (cached != null) {
+            post(() -> callback.onSuccess(cached.response));
+            if (!cached.isStale()) {
+                return;
+            }
+        }
+
+        // With a cached list already on screen, revalidating it is background work.
+        enqueue(cached != null ? RequestPriority.PREFETCH : RequestPriority.VISIBLE, () -> {
             try {
                 Request request = new Request.Builder()
                     .url(ApiConfig.getProductsEndpoint(categoryId))
                     .addHeader("Accept", "application/json")
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    android.util.Log.d("ApiService", "fetchProducts response for category " + categoryId + ": " + responseBody);
-                    ProductResponse productResponse = gson.fromJson(responseBody, ProductResponse.class);
+                    ProductResponse productResponse = JsonBodies.read(gson, response.body(), ProductResponse.class);
 
                     if (productResponse != null && productResponse.getProducts() != null) {
                         android.util.Log.d("ApiService", "Parsed " + productResponse.getProducts().size() + " products");
                     }
 
-                    mainHandler.post(() -> callback.onSuccess(productResponse));
+                    boolean changed = productResponse == null
+                        || ProductCache.getInstance().put(categoryId, productResponse);
+                    if (cached == null || changed) {
+                        post(() -> callback.onSuccess(productResponse));
+                    }
                 } else {
                     String errorMsg = "Error: " + response.code();
                     if (response.body() != null) {
                         errorMsg += " - " + response.body().string();
                     }
                     final String finalErrorMsg = errorMsg;
-                    mainHandler.post(() -> callback.onError(finalErrorMsg));
+                    deliverProductError(cached, callback, finalErrorMsg);
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                deliverProductError(cached, callback, "Network error: " + e.getMessage());
             } catch (Exception e) {
                 android.util.Log.e("ApiService", "Error parsing products", e);
-                mainHandler.post(() -> callback.onError("Parse error: " + e.getMessage()));
+                deliverProductError(cached, callback, "Parse error: " + e.getMessage());
             }
         });
     }
 
-    public void createTransaction(Context context, int productId, String targetId, TransactionCallback callback) {
+    private void deliverProductError(ProductCache.Entry cached, ProductCallback callback, String errorMessage) {
+        if (cached != null) {
+            // The caller already has the cached list; a failed revalidation is not worth an error.
+            android.util.Log.w("ApiService", "Product refresh failed: " + errorMessage);
+            return;
+        }
+        post(() -> callback.onError(errorMessage));
+    }
+
+    /**
+     * Creates a purchase. {@code idempotencyKey} must stay the same when the user resubmits
+     * the same purchase; connection failures are retried with it.
+     */
+    public void createTransaction(Context context, int productId, String targetId, String idempotencyKey,
+                                  TransactionCallback callback) {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated", 401));
+            post(() -> callback.onError("Not authenticated", 401));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.INTERACTIVE, () -> {
             try {
                 TransactionRequest transactionRequest = new TransactionRequest(productId, targetId);
-                String json = gson.toJson(transactionRequest);
-
-                MediaType JSON = MediaType.parse("application/json; charset=utf-8");
-                RequestBody body = RequestBody.create(json, JSON);
+                RequestBody body = JsonBodies.create(gson, transactionRequest);
 
                 Request request = new Request.Builder()
                     .url(ApiConfig.getTransactionsEndpoint())
                     .addHeader("Authorization", "Bearer " + token)
                     .addHeader("Accept", "application/json")
+                    .addHeader(RetryPolicy.IDEMPOTENCY_HEADER, idempotencyKey)
                     .post(body)
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = RetryPolicy.CREATE.execute(this::newCall, request);
                 int statusCode = response.code();
 
                 if (response.body() != null) {
-                    String responseBody = response.body().string();
-                    TransactionResponse transactionResponse = gson.fromJson(responseBody, TransactionResponse.class);
+                    TransactionResponse transactionResponse = JsonBodies.read(gson, response.body(), TransactionResponse.class);
 
                     if (statusCode == 201 || statusCode == 200) {
-                        mainHandler.post(() -> callback.onSuccess(transactionResponse));
+                        post(() -> {
+                            // The purchase was charged to the balance.
+                            UserSession.getInstance().invalidate();
+                            callback.onSuccess(transactionResponse);
+                        });
                     } else {
-                        mainHandler.post(() -> callback.onError(
+                        post(() -> callback.onError(
                             transactionResponse.getMessage() != null ? transactionResponse.getMessage() : "Error: " + statusCode,
                             statusCode
                         ));
                     }
                 } else {
-                    mainHandler.post(() -> callback.onError("Error: " + statusCode, statusCode));
+                    post(() -> callback.onError("Error: " + statusCode, statusCode));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage(), -1));
+                post(() -> callback.onError("Network error: " + e.getMessage(), -1));
             }
         });
     }
@@ -302,11 +395,11 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.VISIBLE, () -> {
             try {
                 Request request = new Request.Builder()
                     .url(ApiConfig.getTransactionStatusEndpoint(transactionId))
@@ -314,19 +407,18 @@ public class ApiService {
                     .addHeader("Accept", "application/json")
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.body() != null) {
-                    String responseBody = response.body().string();
-                    TransactionStatusResponse transactionStatusResponse = gson.fromJson(responseBody, TransactionStatusResponse.class);
+                    TransactionStatusResponse transactionStatusResponse = JsonBodies.read(gson, response.body(), TransactionStatusResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(transactionStatusResponse));
+                    post(() -> callback.onSuccess(transactionStatusResponse));
                 } else {
                     String errorMsg = "Error: " + response.code();
-                    mainHandler.post(() -> callback.onError(errorMsg));
+                    post(() -> callback.onError(errorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
@@ -335,11 +427,11 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.VISIBLE, () -> {
             try {
                 Request request = new Request.Builder()
                     .url(ApiConfig.getTransactionRefreshStatusEndpoint(transactionId))
@@ -347,35 +439,52 @@ public class ApiService {
                     .addHeader("Accept", "application/json")
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.body() != null) {
-                    String responseBody = response.body().string();
-                    TransactionStatusResponse transactionStatusResponse = gson.fromJson(responseBody, TransactionStatusResponse.class);
+                    TransactionStatusResponse transactionStatusResponse = JsonBodies.read(gson, response.body(), TransactionStatusResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(transactionStatusResponse));
+                    post(() -> callback.onSuccess(transactionStatusResponse));
                 } else {
                     String errorMsg = "Error: " + response.code();
-                    mainHandler.post(() -> callback.onError(errorMsg));
+                    post(() -> callback.onError(errorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
 
-    public void fetchMyTransactions(Context context, MyTransactionsCallback callback) {
+    /**
+     * One page of the signed-in user's transactions.
+     *
+     * @param updatedSince only transactions updated after this {@code updated_at}, or null
+     *                     for the full list
+     */
+    public void fetchMyTransactions(Context context, @Nullable String updatedSince, int page,
+                                    MyTransactionsCallback callback) {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
+            return;
+        }
+
+        HttpUrl.Builder urlBuilder = HttpUrl.get(ApiConfig.getMyTransactionsEndpoint()).newBuilder()
+            .addQueryParameter("page", String.valueOf(page));
+        if (updatedSince != null) {
+            urlBuilder.addQueryParameter("updated_since", updatedSince);
+        }
+        String url = urlBuilder.build().toString();
+        String key = flightKey("GET", url, token);
+        if (!MY_TRANSACTIONS_FLIGHTS.join(key, new Waiter<>(this, callback))) {
             return;
         }
 
         executorService.execute(() -> {
             try {
                 Request request = new Request.Builder()
-                    .url(ApiConfig.getMyTransactionsEndpoint())
+                    .url(url)
                     .addHeader("Authorization", "Bearer " + token)
                     .addHeader("Accept", "application/json")
                     .build();
@@ -383,16 +492,18 @@ public class ApiService {
                 Response response = client.newCall(request).execute();
 
                 if (response.body() != null) {
-                    String responseBody = response.body().string();
-                    MyTransactionsResponse myTransactionsResponse = gson.fromJson(responseBody, MyTransactionsResponse.class);
+                    MyTransactionsResponse myTransactionsResponse = JsonBodies.read(gson, response.body(), MyTransactionsResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(myTransactionsResponse));
+                    for (Waiter<MyTransactionsCallback> waiting : MY_TRANSACTIONS_FLIGHTS.finish(key)) {
+                        waiting.owner.post(() -> waiting.callback.onSuccess(myTransactionsResponse));
+                    }
                 } else {
-                    String errorMsg = "Error: " + response.code();
-                    mainHandler.post(() -> callback.onError(errorMsg));
+                    deliverMyTransactionsError(key, "Error: " + response.code());
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                deliverMyTransactionsError(key, "Network error: " + e.getMessage());
+            } catch (RuntimeException e) {
+                deliverMyTransactionsError(key, "Parse error: " + e.getMessage());
             }
         });
     }
@@ -401,11 +512,11 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.VISIBLE, () -> {
             try {
                 Request request = new Request.Builder()
                     .url(ApiConfig.getAllTransactionsPageEndpoint(page))
@@ -413,19 +524,18 @@ public class ApiService {
                     .addHeader("Accept", "application/json")
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.body() != null) {
-                    String responseBody = response.body().string();
-                    PaginatedTransactionsResponse paginatedResponse = gson.fromJson(responseBody, PaginatedTransactionsResponse.class);
+                    PaginatedTransactionsResponse paginatedResponse = JsonBodies.read(gson, response.body(), PaginatedTransactionsResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(paginatedResponse));
+                    post(() -> callback.onSuccess(paginatedResponse));
                 } else {
                     String errorMsg = "Error: " + response.code();
-                    mainHandler.post(() -> callback.onError(errorMsg));
+                    post(() -> callback.onError(errorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
@@ -434,11 +544,11 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.VISIBLE, () -> {
             try {
                 Request request = new Request.Builder()
                     .url(ApiConfig.getAdminUsersPageEndpoint(page))
@@ -446,37 +556,90 @@ public class ApiService {
                     .addHeader("Accept", "application/json")
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.body() != null) {
-                    String responseBody = response.body().string();
-                    PaginatedUsersResponse paginatedResponse = gson.fromJson(responseBody, PaginatedUsersResponse.class);
+                    PaginatedUsersResponse paginatedResponse = JsonBodies.read(gson, response.body(), PaginatedUsersResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(paginatedResponse));
+                    post(() -> callback.onSuccess(paginatedResponse));
                 } else {
                     String errorMsg = "Error: " + response.code();
-                    mainHandler.post(() -> callback.onError(errorMsg));
+                    post(() -> callback.onError(errorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
 
-    public void updateUser(Context context, int userId, UpdateUserRequest updateRequest, UserManagementCallback callback) {
+    /**
+     * Total orders and total users for the admin dashboard, read from one-row pages fetched
+     * in parallel. A complete result is answered from memory for {@link DashboardStats#TTL_MS}.
+     * A count that failed to load is {@link DashboardStats#UNKNOWN}; onError fires only when
+     * both failed.
+     */
+    public void fetchDashboardStats(Context context, DashboardStatsCallback callback) {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        DashboardStats cached = DashboardStats.fresh(token);
+        if (cached != null) {
+            post(() -> callback.onSuccess(cached));
+            return;
+        }
+
+        StatsJoin join = new StatsJoin(token, callback);
+        enqueue(RequestPriority.VISIBLE, () -> {
             try {
-                String json = gson.toJson(updateRequest);
+                int total = fetchTotal(ApiConfig.getAllTransactionsCountEndpoint(), token);
+                post(() -> join.ordersLoaded(total));
+            } catch (IOException e) {
+                post(() -> join.failed("Network error: " + e.getMessage()));
+            }
+        });
+        enqueue(RequestPriority.VISIBLE, () -> {
+            try {
+                int total = fetchTotal(ApiConfig.getAdminUsersCountEndpoint(), token);
+                post(() -> join.usersLoaded(total));
+            } catch (IOException e) {
+                post(() -> join.failed("Network error: " + e.getMessage()));
+            }
+        });
+    }
+
+    /** Runs on a network thread; {@link DashboardStats#UNKNOWN} for an error response. */
+    private int fetchTotal(String url, String token) throws IOException {
+        Request request = new Request.Builder()
+            .url(url)
+            .addHeader("Authorization", "Bearer " + token)
+            .addHeader("Accept", "application/json")
+            .build();
+
+        try (Response response = execute(request)) {
+            if (!response.isSuccessful() || response.body() == null) {
+                android.util.Log.w("ApiService", "Count request failed: " + response.code());
+                return DashboardStats.UNKNOWN;
+            }
+            PageTotalResponse page = JsonBodies.read(gson, response.body(), PageTotalResponse.class);
+            return page != null ? page.getTotal() : DashboardStats.UNKNOWN;
+        }
+    }
 
-                MediaType JSON = MediaType.parse("application/json; charset=utf-8");
-                RequestBody body = RequestBody.create(json, JSON);
+    public void updateUser(Context context, int userId, UpdateUserRequest updateRequest, UserManagementCallback callback) {
+        String token = AuthManager.getAccessToken(context);
+
+        if (token == null) {
+            post(() -> callback.onError("Not authenticated"));
+            return;
+        }
+
+        enqueue(RequestPriority.INTERACTIVE, () -> {
+            try {
+                RequestBody body = JsonBodies.create(gson, updateRequest);
 
                 Request request = new Request.Builder()
                     .url(ApiConfig.getAdminUserEndpoint(userId))
@@ -485,23 +648,22 @@ public class ApiService {
                     .put(body)
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    User user = gson.fromJson(responseBody, User.class);
+                    User user = JsonBodies.read(gson, response.body(), User.class);
 
-                    mainHandler.post(() -> callback.onSuccess(user));
+                    post(() -> callback.onSuccess(user));
                 } else {
                     String errorMsg = "Error: " + response.code();
                     if (response.body() != null) {
                         errorMsg += " - " + response.body().string();
                     }
                     final String finalErrorMsg = errorMsg;
-                    mainHandler.post(() -> callback.onError(finalErrorMsg));
+                    post(() -> callback.onError(finalErrorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
@@ -510,11 +672,11 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.INTERACTIVE, () -> {
             try {
                 RequestBody emptyBody = RequestBody.create("", null);
 
@@ -525,23 +687,22 @@ public class ApiService {
                     .patch(emptyBody)
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    ToggleRoleResponse toggleResponse = gson.fromJson(responseBody, ToggleRoleResponse.class);
+                    ToggleRoleResponse toggleResponse = JsonBodies.read(gson, response.body(), ToggleRoleResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(toggleResponse));
+                    post(() -> callback.onSuccess(toggleResponse));
                 } else {
                     String errorMsg = "Error: " + response.code();
                     if (response.body() != null) {
                         errorMsg += " - " + response.body().string();
                     }
                     final String finalErrorMsg = errorMsg;
-                    mainHandler.post(() -> callback.onError(finalErrorMsg));
+                    post(() -> callback.onError(finalErrorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
@@ -550,16 +711,13 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.INTERACTIVE, () -> {
             try {
-                String json = gson.toJson(createRequest);
-
-                MediaType JSON = MediaType.parse("application/json; charset=utf-8");
-                RequestBody body = RequestBody.create(json, JSON);
+                RequestBody body = JsonBodies.create(gson, createRequest);
 
                 Request request = new Request.Builder()
                     .url(ApiConfig.getAdminUsersEndpoint())
@@ -568,23 +726,23 @@ public class ApiService {
                     .post(body)
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    User user = gson.fromJson(responseBody, User.class);
+                    User user = JsonBodies.read(gson, response.body(), User.class);
 
-                    mainHandler.post(() -> callback.onSuccess(user));
+                    DashboardStats.invalidate();
+                    post(() -> callback.onSuccess(user));
                 } else {
                     String errorMsg = "Error: " + response.code();
                     if (response.body() != null) {
                         errorMsg += " - " + response.body().string();
                     }
                     final String finalErrorMsg = errorMsg;
-                    mainHandler.post(() -> callback.onError(finalErrorMsg));
+                    post(() -> callback.onError(finalErrorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
@@ -593,11 +751,11 @@ public class ApiService {
         String token = AuthManager.getAccessToken(context);
 
         if (token == null) {
-            mainHandler.post(() -> callback.onError("Not authenticated"));
+            post(() -> callback.onError("Not authenticated"));
             return;
         }
 
-        executorService.execute(() -> {
+        enqueue(RequestPriority.INTERACTIVE, () -> {
             try {
                 Request request = new Request.Builder()
                     .url(ApiConfig.getAdminUserEndpoint(userId))
@@ -606,28 +764,211 @@ public class ApiService {
                     .delete()
                     .build();
 
-                Response response = client.newCall(request).execute();
+                Response response = execute(request);
 
                 if (response.isSuccessful() && response.body() != null) {
-                    String responseBody = response.body().string();
-                    MessageResponse messageResponse = gson.fromJson(responseBody, MessageResponse.class);
+                    MessageResponse messageResponse = JsonBodies.read(gson, response.body(), MessageResponse.class);
 
-                    mainHandler.post(() -> callback.onSuccess(messageResponse.getMessage()));
+                    DashboardStats.invalidate();
+                    post(() -> callback.onSuccess(messageResponse.getMessage()));
                 } else {
                     String errorMsg = "Error: " + response.code();
                     if (response.body() != null) {
                         errorMsg += " - " + response.body().string();
                     }
                     final String finalErrorMsg = errorMsg;
-                    mainHandler.post(() -> callback.onError(finalErrorMsg));
+                    post(() -> callback.onError(finalErrorMsg));
                 }
             } catch (IOException e) {
-                mainHandler.post(() -> callback.onError("Network error: " + e.getMessage()));
+                post(() -> callback.onError("Network error: " + e.getMessage()));
             }
         });
     }
 
+    /** Network calls that were answered by an identical call already in flight. */
+    public static long collapsedCallCount() {
+        return USER_FLIGHTS.collapsedCount() + MY_TRANSACTIONS_FLIGHTS.collapsedCount();
+    }
+
+    /** GETs that actually went to the network through a coalescing path. */
+    public static long coalescedRequestCount() {
+        return USER_FLIGHTS.startedCount() + MY_TRANSACTIONS_FLIGHTS.startedCount();
+    }
+
+    private static String flightKey(String method, String url, String token) {
+        return method + ' ' + url + ' ' + token;
+    }
+
+    private static void deliverUserError(String key, String errorMessage) {
+        for (Waiter<UserCallback> waiting : USER_FLIGHTS.finish(key)) {
+            waiting.owner.post(() -> waiting.callback.onError(errorMessage));
+        }
+    }
+
+    private static void deliverMyTransactionsError(String key, String errorMessage) {
+        for (Waiter<MyTransactionsCallback> waiting : MY_TRANSACTIONS_FLIGHTS.finish(key)) {
+            waiting.owner.post(() -> waiting.callback.onError(errorMessage));
+        }
+    }
+
+    /**
+     * Cancels this service's in-flight calls and drops its pending callbacks. The shared
+     * executor and client stay up. Calls coalesced with other screens are left running;
+     * only this service's callbacks are dropped.
+     */
     public void shutdown() {
-        executorService.shutdown();
+        shutDown = true;
+        mainHandler.removeCallbacksAndMessages(null);
+        List<Call> running;
+        synchronized (calls) {
+            running = new ArrayList<>(calls);
+            calls.clear();
+        }
+        for (Call call : running) {
+            call.cancel();
+        }
+    }
+
+    /**
+     * Runs a request task on the network pool unless this service is shut down by then.
+     * Interactive work arriving at a full pool cancels running prefetches to free a thread.
+     */
+    private void enqueue(RequestPriority priority, Runnable task) {
+        if (shutDown) {
+            return;
+        }
+        if (priority == RequestPriority.INTERACTIVE && executorService.isSaturated()) {
+            cancelPrefetches();
+        }
+        executorService.execute(() -> {
+            if (shutDown) {
+                return;
+            }
+            TaskState state = CURRENT_TASK.get();
+            state.priority = priority;
+            try {
+                task.run();
+            } finally {
+                // The body has been read by now, so the calls can no longer be cancelled usefully.
+                synchronized (calls) {
+                    calls.removeAll(state.calls);
+                }
+                if (priority == RequestPriority.PREFETCH) {
+                    synchronized (PREFETCH_CALLS) {
+                        PREFETCH_CALLS.removeAll(state.calls);
+                    }
+                }
+                state.calls.clear();
+                state.priority = null;
+            }
+        }, priority);
+    }
+
+    private static void cancelPrefetches() {
+        List<Call> running;
+        synchronized (PREFETCH_CALLS) {
+            running = new ArrayList<>(PREFETCH_CALLS);
+            PREFETCH_CALLS.clear();
+        }
+        for (Call call : running) {
+            call.cancel();
+        }
+    }
+
+    /**
+     * A call that {@link #shutdown()} cancels, for use inside
+     * {@link #enqueue(RequestPriority, Runnable)}.
+     */
+    private Call newCall(Request request) {
+        Call call = client.newCall(request);
+        synchronized (calls) {
+            if (shutDown) {
+                call.cancel();
+            } else {
+                calls.add(call);
+            }
+        }
+        TaskState state = CURRENT_TASK.get();
+        state.calls.add(call);
+        if (state.priority == RequestPriority.PREFETCH) {
+            synchronized (PREFETCH_CALLS) {
+                PREFETCH_CALLS.add(call);
+            }
+        }
+        return call;
+    }
+
+    private Response execute(Request request) throws IOException {
+        return newCall(request).execute();
+    }
+
+    /** Posts to the main thread unless this service is shut down before it runs. */
+    private void post(Runnable delivery) {
+        if (shutDown) {
+            return;
+        }
+        mainHandler.post(() -> {
+            if (!shutDown) {
+                delivery.run();
+            }
+        });
+    }
+
+    /** Gathers the two dashboard counts; only touched on the main thread. */
+    private static final class StatsJoin {
+        private final String token;
+        private final DashboardStatsCallback callback;
+        private int totalOrders = DashboardStats.UNKNOWN;
+        private int totalUsers = DashboardStats.UNKNOWN;
+        private int pending = 2;
+        private String error = "Error: no counts";
+
+        StatsJoin(String token, DashboardStatsCallback callback) {
+            this.token = token;
+            this.callback = callback;
+        }
+
+        void ordersLoaded(int total) {
+            totalOrders = total;
+            done();
+        }
+
+        void usersLoaded(int total) {
+            totalUsers = total;
+            done();
+        }
+
+        void failed(String errorMessage) {
+            error = errorMessage;
+            done();
+        }
+
+        private void done() {
+            if (--pending > 0) {
+                return;
+            }
+            if (totalOrders == DashboardStats.UNKNOWN && totalUsers == DashboardStats.UNKNOWN) {
+                callback.onError(error);
+                return;
+            }
+            DashboardStats stats = new DashboardStats(totalOrders, totalUsers, token);
+            DashboardStats.store(stats);
+            callback.onSuccess(stats);
+        }
+    }
+
+    private static final class TaskState {
+        RequestPriority priority;
+        final List<Call> calls = new ArrayList<>(1);
+    }
+
+    private static final class Waiter<C> {
+        final ApiService owner;
+        final C callback;
+
+        Waiter(ApiService owner, C callback) {
+            this.owner = owner;
+            this.callback = callback;
+        }
     }
 }
@@ -0,0 +1,90 @@
+package com.gamex.app;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * App-scoped thread pools. These are never shut down, so a screen going away can not
+ * leave another screen holding a dead executor.
+ */
+public final class AppExecutors {
+
+    /**
+     * Every ApiService call goes to the same origin, so the pool size doubles as the
+     * per-host concurrency limit. Matches OkHttp's default maxRequestsPerHost.
+     */
+    static final int MAX_NETWORK_THREADS = 5;
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private AppExecutors() {
+        // Utility class.
+    }
+
+    /** Network pool; queued work is started in {@link RequestPriority} order. */
+    public static PriorityExecutor networkIO() {
+        return Holder.NETWORK_IO;
+    }
+
+    /**
+     * Single thread for CPU work such as building list rows. Being serial, results come
+     * back in the order they were submitted.
+     */
+    public static ExecutorService background() {
+        return BackgroundHolder.BACKGROUND;
+    }
+
+    /**
+     * Single thread for disk reads and writes (database, HTTP cache, report files), kept
+     * apart from {@link #background()} so list rows and images are not stuck behind I/O.
+     * Being serial, a write is visible to every read submitted after it.
+     */
+    public static ExecutorService diskIO() {
+        return DiskHolder.DISK_IO;
+    }
+
+    private static final class Holder {
+        static final PriorityExecutor NETWORK_IO = new PriorityExecutor(
+                MAX_NETWORK_THREADS, KEEP_ALIVE_SECONDS, new NamedThreadFactory("gamex-net"));
+    }
+
+    private static final class BackgroundHolder {
+        static final ExecutorService BACKGROUND = newPool("gamex-bg", 1);
+    }
+
+    private static final class DiskHolder {
+        static final ExecutorService DISK_IO = newPool("gamex-disk", 1);
+    }
+
+    private static ExecutorService newPool(String name, int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory(name));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger(1);
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
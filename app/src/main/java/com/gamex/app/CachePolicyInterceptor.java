@@ -0,0 +1,65 @@
+package com.gamex.app;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Network interceptor that decides what the disk cache may keep, per endpoint:
+ * <ul>
+ *     <li>Anything but GET is never stored.</li>
+ *     <li>Product catalogs are public and cached for {@link #PRODUCTS_MAX_AGE_SECONDS}.</li>
+ *     <li>Authenticated GETs are stored only when they carry an ETag or Last-Modified, are
+ *     always revalidated, and vary on Authorization so one account never sees another's data.</li>
+ * </ul>
+ * Headers the server sets itself win when they already forbid storing.
+ */
+final class CachePolicyInterceptor implements Interceptor {
+
+    static final int PRODUCTS_MAX_AGE_SECONDS = 120;
+
+    private static final String CACHE_CONTROL = "Cache-Control";
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        String serverPolicy = response.header(CACHE_CONTROL, "");
+        if (serverPolicy.contains("no-store")) {
+            return response;
+        }
+
+        if (!"GET".equals(request.method())) {
+            return response.newBuilder()
+                    .header(CACHE_CONTROL, "no-store")
+                    .removeHeader("Pragma")
+                    .build();
+        }
+
+        if (isProductCatalog(request)) {
+            return response.newBuilder()
+                    .header(CACHE_CONTROL, "public, max-age=" + PRODUCTS_MAX_AGE_SECONDS)
+                    .removeHeader("Pragma")
+                    .build();
+        }
+
+        if (request.header("Authorization") != null) {
+            boolean hasValidator = response.header("ETag") != null || response.header("Last-Modified") != null;
+            return response.newBuilder()
+                    .header(CACHE_CONTROL, hasValidator ? "private, no-cache" : "no-store")
+                    .header("Vary", "Authorization")
+                    .removeHeader("Pragma")
+                    .build();
+        }
+
+        return response;
+    }
+
+    private static boolean isProductCatalog(Request request) {
+        String path = request.url().encodedPath();
+        return path.startsWith("/api/categories/") && path.endsWith("/products");
+    }
+}
@@ -35,7 +35,7 @@ public class CreateUserActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_create_user);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         ImageView backButton = findViewById(R.id.backButton);
         backButton.setOnClickListener(v -> finish());
@@ -135,12 +135,4 @@ public class CreateUserActivity extends AppCompatActivity {
             }
         });
     }
-
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
 }
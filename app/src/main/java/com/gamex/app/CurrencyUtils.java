@@ -1,20 +1,65 @@
 package com.gamex.app;
 
-import java.text.NumberFormat;
-import java.util.Locale;
+import com.gamex.app.models.Money;
 
+/**
+ * Formats whole Rupiah as "Rp 1.234.567". Digits are written into a per-thread buffer,
+ * so a call costs one String and no locale or NumberFormat lookups; safe to call from
+ * any thread.
+ */
 public final class CurrencyUtils {
 
+    private static final char[] PREFIX = {'R', 'p', ' '};
+    private static final char GROUP_SEPARATOR = '.';
+
+    // "-Rp " plus 19 digits and 6 separators for Long.MIN_VALUE.
+    private static final int BUFFER_SIZE = 32;
+
+    private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[BUFFER_SIZE];
+        }
+    };
+
     private CurrencyUtils() {
         // Utility class.
     }
 
     public static String formatToRupiah(int amount) {
-        NumberFormat formatRupiah = NumberFormat.getCurrencyInstance(new Locale("id", "ID"));
-        return formatRupiah.format(amount);
+        return formatToRupiah((long) amount);
     }
 
     public static String formatToRupiah(double amount) {
-        return formatToRupiah((int) amount);
+        return formatToRupiah((long) amount);
+    }
+
+    public static String formatToRupiah(Money amount) {
+        return formatToRupiah(amount != null ? amount.getWholeUnits() : 0L);
+    }
+
+    public static String formatToRupiah(long amount) {
+        char[] buffer = BUFFER.get();
+        int pos = buffer.length;
+
+        // Count down in negative space so Long.MIN_VALUE needs no special case.
+        long remaining = amount < 0 ? amount : -amount;
+        int digits = 0;
+        do {
+            if (digits > 0 && digits % 3 == 0) {
+                buffer[--pos] = GROUP_SEPARATOR;
+            }
+            buffer[--pos] = (char) ('0' - (remaining % 10));
+            remaining /= 10;
+            digits++;
+        } while (remaining != 0);
+
+        for (int i = PREFIX.length - 1; i >= 0; i--) {
+            buffer[--pos] = PREFIX[i];
+        }
+        if (amount < 0) {
+            buffer[--pos] = '-';
+        }
+        return new String(buffer, pos, buffer.length - pos);
     }
 }
@@ -0,0 +1,65 @@
+package com.gamex.app;
+
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+/**
+ * The admin dashboard's headline counts. The last complete result is kept for
+ * {@link #TTL_MS} per access token, so returning to the dashboard does not refetch them.
+ */
+public final class DashboardStats {
+
+    /** A count whose request failed. */
+    public static final int UNKNOWN = -1;
+
+    static final long TTL_MS = 30 * 1000L;
+
+    private static DashboardStats cached;
+
+    private final int totalOrders;
+    private final int totalUsers;
+    private final String token;
+    private final long fetchedAt;
+
+    DashboardStats(int totalOrders, int totalUsers, String token) {
+        this.totalOrders = totalOrders;
+        this.totalUsers = totalUsers;
+        this.token = token;
+        this.fetchedAt = SystemClock.elapsedRealtime();
+    }
+
+    public int getTotalOrders() {
+        return totalOrders;
+    }
+
+    public int getTotalUsers() {
+        return totalUsers;
+    }
+
+    boolean isComplete() {
+        return totalOrders != UNKNOWN && totalUsers != UNKNOWN;
+    }
+
+    /** The cached counts for {@code token}, or null if there are none younger than {@link #TTL_MS}. */
+    @Nullable
+    static synchronized DashboardStats fresh(String token) {
+        if (cached == null || !cached.token.equals(token)
+                || SystemClock.elapsedRealtime() - cached.fetchedAt >= TTL_MS) {
+            return null;
+        }
+        return cached;
+    }
+
+    /** Remembers {@code stats} if both counts are known. */
+    static synchronized void store(DashboardStats stats) {
+        if (stats.isComplete()) {
+            cached = stats;
+        }
+    }
+
+    /** Drops the cached counts, e.g. after a user was added or removed. */
+    static synchronized void invalidate() {
+        cached = null;
+    }
+}
@@ -1,47 +1,225 @@
 package com.gamex.app;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
+/**
+ * Parses the timestamps the API returns and formats them as "16 Nov 2025, 10:07" in the
+ * device time zone. Both run without exceptions or per-call formatter allocation, so they
+ * are cheap enough to call from onBindViewHolder.
+ */
 public final class DateUtils {
 
+    /** Returned by {@link #parseIsoMillis(CharSequence)} for input it does not understand. */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final String[] MONTHS = {
+            "Jan", "Feb", "Mar", "Apr", "Mei", "Jun", "Jul", "Agu", "Sep", "Okt", "Nov", "Des"
+    };
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final ThreadLocal<DisplayFormatter> DISPLAY = new ThreadLocal<DisplayFormatter>() {
+        @Override
+        protected DisplayFormatter initialValue() {
+            return new DisplayFormatter();
+        }
+    };
+
     private DateUtils() {
         // Utility class
     }
 
+    /**
+     * Formats an API timestamp for display, or returns it unchanged if it can not be parsed.
+     */
     public static String formatDate(String isoDate) {
         if (isoDate == null || isoDate.isEmpty()) {
             return "";
         }
+        long millis = parseIsoMillis(isoDate);
+        return millis == INVALID ? isoDate : formatDisplay(millis);
+    }
 
-        try {
-            // Parse ISO 8601 format: "2025-11-16T10:07:23.000000Z"
-            SimpleDateFormat isoFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'", Locale.US);
-            Date date = isoFormat.parse(isoDate);
+    public static String formatDisplay(long epochMillis) {
+        return DISPLAY.get().format(epochMillis);
+    }
 
-            if (date != null) {
-                // Format to readable date: "16 Nov 2025, 10:07"
-                SimpleDateFormat displayFormat = new SimpleDateFormat("dd MMM yyyy, HH:mm", new Locale("id", "ID"));
-                return displayFormat.format(date);
+    /**
+     * Parses the Laravel timestamp shapes into epoch millis:
+     * "2025-11-16T10:07:23.000000Z", "2025-11-16T10:07:23Z", "2025-11-16T17:07:23+07:00"
+     * and "2025-11-16 10:07:23". Fractions beyond milliseconds are truncated. Values
+     * without a zone are taken as UTC, which is how Laravel stores them by default.
+     *
+     * @return epoch millis, or {@link #INVALID}
+     */
+    public static long parseIsoMillis(CharSequence text) {
+        if (text == null || text.length() < 19) {
+            return INVALID;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        char separator = text.charAt(10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+                || text.charAt(4) != '-' || text.charAt(7) != '-'
+                || (separator != 'T' && separator != 't' && separator != ' ')
+                || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return INVALID;
+        }
+
+        int length = text.length();
+        int index = 19;
+        int millis = 0;
+        if (index < length && text.charAt(index) == '.') {
+            index++;
+            int fractionDigits = 0;
+            while (index < length && isDigit(text.charAt(index))) {
+                if (fractionDigits < 3) {
+                    millis = millis * 10 + (text.charAt(index) - '0');
+                }
+                fractionDigits++;
+                index++;
             }
-        } catch (ParseException e) {
-            // Try alternative format without microseconds
-            try {
-                SimpleDateFormat altFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.US);
-                Date date = altFormat.parse(isoDate);
-
-                if (date != null) {
-                    SimpleDateFormat displayFormat = new SimpleDateFormat("dd MMM yyyy, HH:mm", new Locale("id", "ID"));
-                    return displayFormat.format(date);
+            if (fractionDigits == 0) {
+                return INVALID;
+            }
+            for (; fractionDigits < 3; fractionDigits++) {
+                millis *= 10;
+            }
+        }
+
+        int offsetMinutes = 0;
+        if (index < length) {
+            char zone = text.charAt(index);
+            if ((zone == 'Z' || zone == 'z') && index + 1 == length) {
+                index++;
+            } else if (zone == '+' || zone == '-') {
+                offsetMinutes = parseOffsetMinutes(text, index + 1, length);
+                if (offsetMinutes < 0) {
+                    return INVALID;
+                }
+                if (zone == '-') {
+                    offsetMinutes = -offsetMinutes;
                 }
-            } catch (ParseException ex) {
-                // Return original string if parsing fails
-                return isoDate;
+                index = length;
             }
         }
+        if (index != length) {
+            return INVALID;
+        }
+
+        long days = daysFromEpoch(year, month, day);
+        long secondsOfDay = hour * 3600L + minute * 60L + second - offsetMinutes * 60L;
+        return days * MILLIS_PER_DAY + secondsOfDay * MILLIS_PER_SECOND + millis;
+    }
 
-        return isoDate;
+    /** Accepts "HH:mm", "HHmm" or "HH"; returns -1 when malformed. */
+    private static int parseOffsetMinutes(CharSequence text, int start, int length) {
+        int remaining = length - start;
+        if (remaining < 2) {
+            return -1;
+        }
+        int hours = digits(text, start, 2);
+        int minutes;
+        if (remaining == 2) {
+            minutes = 0;
+        } else if (remaining == 4) {
+            minutes = digits(text, start + 2, 2);
+        } else if (remaining == 5 && text.charAt(start + 2) == ':') {
+            minutes = digits(text, start + 3, 2);
+        } else {
+            return -1;
+        }
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return -1;
+        }
+        return hours * 60 + minutes;
+    }
+
+    /** Reads {@code count} ASCII digits at {@code start}; returns -1 if any is not a digit. */
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /** Days since 1970-01-01 in the proleptic Gregorian calendar. */
+    private static long daysFromEpoch(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * One per thread: a calendar in the device zone (read when the thread first formats)
+     * and a buffer for "dd MMM yyyy, HH:mm".
+     */
+    private static final class DisplayFormatter {
+        private final Calendar calendar = new GregorianCalendar(TimeZone.getDefault());
+        private final char[] buffer = new char[18];
+
+        String format(long epochMillis) {
+            calendar.setTimeInMillis(epochMillis);
+            int year = calendar.get(Calendar.YEAR);
+            if (year > 9999) {
+                year = 9999;
+            }
+            String month = MONTHS[calendar.get(Calendar.MONTH)];
+
+            putTwoDigits(0, calendar.get(Calendar.DAY_OF_MONTH));
+            buffer[2] = ' ';
+            buffer[3] = month.charAt(0);
+            buffer[4] = month.charAt(1);
+            buffer[5] = month.charAt(2);
+            buffer[6] = ' ';
+            putTwoDigits(7, year / 100);
+            putTwoDigits(9, year % 100);
+            buffer[11] = ',';
+            buffer[12] = ' ';
+            putTwoDigits(13, calendar.get(Calendar.HOUR_OF_DAY));
+            buffer[15] = ':';
+            putTwoDigits(16, calendar.get(Calendar.MINUTE));
+            return new String(buffer);
+        }
+
+        private void putTwoDigits(int at, int value) {
+            buffer[at] = (char) ('0' + value / 10);
+            buffer[at + 1] = (char) ('0' + value % 10);
+        }
     }
 }
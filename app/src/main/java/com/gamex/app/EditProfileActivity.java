@@ -7,7 +7,7 @@ import android.widget.Toast;
 import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AppCompatActivity;
 
-import com.gamex.app.models.UserResponse;
+import com.gamex.app.models.User;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
 
@@ -15,7 +15,6 @@ public class EditProfileActivity extends AppCompatActivity {
 
     private static final String TAG = "EditProfileActivity";
 
-    private ApiService apiService;
     private TextInputEditText nameInput;
     private TextInputEditText emailInput;
     private TextInputEditText phoneInput;
@@ -26,8 +25,6 @@ public class EditProfileActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_edit_profile);
 
-        apiService = new ApiService();
-
         ImageView backButton = findViewById(R.id.backButton);
         backButton.setOnClickListener(v -> finish());
 
@@ -41,32 +38,22 @@ public class EditProfileActivity extends AppCompatActivity {
         loadProfile();
     }
 
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
-
     private void loadProfile() {
-        if (!NetworkUtils.isNetworkAvailable(this)) {
+        if (!UserSession.getInstance().isFresh() && !NetworkUtils.isNetworkAvailable(this)) {
             DialogUtils.showNoInternetDialog(this, (dialog, which) -> loadProfile());
             return;
         }
 
-        apiService.fetchUserBalance(this, new ApiService.UserCallback() {
+        UserSession.getInstance().requestUser(this, this, new UserSession.Listener() {
             @Override
-            public void onSuccess(UserResponse userResponse) {
-                if (userResponse != null && userResponse.getUser() != null) {
-                    nameInput.setText(userResponse.getUser().getName());
-                    emailInput.setText(userResponse.getUser().getEmail());
-                    phoneInput.setText(userResponse.getUser().getPhone());
-                }
+            public void onUserChanged(User user) {
+                nameInput.setText(user.getName());
+                emailInput.setText(user.getEmail());
+                phoneInput.setText(user.getPhone());
             }
 
             @Override
-            public void onError(String errorMessage) {
+            public void onUserError(String errorMessage) {
                 Toast.makeText(EditProfileActivity.this, R.string.profile_error, Toast.LENGTH_SHORT).show();
             }
         });
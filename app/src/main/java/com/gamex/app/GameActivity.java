@@ -20,37 +20,19 @@ import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.gamex.app.models.UserResponse;
+import com.gamex.app.models.User;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.textfield.TextInputLayout;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
-
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 public class GameActivity extends AppCompatActivity {
 
     static final String EXTRA_GAME_ID = "extra_game_id";
     private static final String TAG = "GameActivity";
-    private static final NumberFormat CURRENCY_FORMAT =
-            NumberFormat.getCurrencyInstance(new Locale("id", "ID"));
-
-    static {
-        CURRENCY_FORMAT.setMaximumFractionDigits(0);
-        CURRENCY_FORMAT.setMinimumFractionDigits(0);
-    }
 
     private ImageView gameLogo;
     private TextView gameTitle;
@@ -68,6 +50,21 @@ public class GameActivity extends AppCompatActivity {
 
     private NominalOption selectedNominal;
     private int categoryNo = -1;
+    private final PendingRequestKey purchaseKey = new PendingRequestKey();
+
+    private final UserSession.Listener sessionListener = new UserSession.Listener() {
+        @Override
+        public void onUserChanged(User user) {
+            currentBalanceAmount.setText(CurrencyUtils.formatToRupiah(user.getBalance()));
+        }
+
+        @Override
+        public void onUserError(String errorMessage) {
+            if (UserSession.getInstance().getUser() == null) {
+                currentBalanceAmount.setText(R.string.home_balance_error);
+            }
+        }
+    };
 
     @Override
     protected void onCreate(@Nullable Bundle savedInstanceState) {
@@ -75,7 +72,7 @@ public class GameActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_game);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         initViews();
         setupRecyclerViews();
@@ -94,9 +91,7 @@ public class GameActivity extends AppCompatActivity {
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
+        UserSession.getInstance().removeListener(sessionListener);
     }
 
     private void initViews() {
@@ -148,71 +143,41 @@ public class GameActivity extends AppCompatActivity {
     }
 
     private void loadGameData(@NonNull String gameId) {
-        try (InputStream inputStream = getAssets().open("games.json");
-             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            StringBuilder jsonBuilder = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonBuilder.append(line);
-            }
-
-            JSONArray games = new JSONArray(jsonBuilder.toString());
-            JSONObject matched = null;
-            for (int i = 0; i < games.length(); i++) {
-                JSONObject object = games.getJSONObject(i);
-                String id = object.optString("id", object.optString("drawable"));
-                if (gameId.equals(id)) {
-                    matched = object;
-                    break;
-                }
-            }
-
-            if (matched == null) {
-                Toast.makeText(this, R.string.game_not_found, Toast.LENGTH_SHORT).show();
-                finish();
-                return;
-            }
+        GameEntry game = GameCatalog.getInstance().findById(gameId);
+        if (game == null) {
+            Toast.makeText(this, R.string.game_not_found, Toast.LENGTH_SHORT).show();
+            finish();
+            return;
+        }
+        bindGame(game);
+    }
 
-            String name = matched.optString("name");
-            String description = matched.optString("description");
-            String drawableName = matched.optString("drawable");
-            boolean requiresZone = matched.optBoolean("isUsingServerZone", false);
-            categoryNo = matched.optInt("no", -1);
+    private void bindGame(@NonNull GameEntry game) {
+        boolean requiresZone = game.requiresServerZone;
+        categoryNo = game.categoryNo;
 
-            if (!drawableName.isEmpty()) {
-                int drawableRes = getResources().getIdentifier(drawableName, "drawable", getPackageName());
-                if (drawableRes != 0) {
-                    gameLogo.setImageResource(drawableRes);
-                } else {
-                    Log.w(TAG, "Drawable not found for name: " + drawableName);
-                }
-            }
+        ImageLoader.getInstance().load(gameLogo, game.drawableRes);
 
-            gameTitle.setText(name);
-            if (description == null || description.trim().isEmpty()) {
-                gameDescription.setVisibility(View.GONE);
-            } else {
-                gameDescription.setVisibility(View.VISIBLE);
-                gameDescription.setText(description);
-            }
-            serverZoneLayout.setVisibility(requiresZone ? View.VISIBLE : View.GONE);
-            if (!requiresZone) {
-                serverZoneLayout.setError(null);
-                if (serverZoneInput != null) {
-                    serverZoneInput.setText("");
-                }
+        gameTitle.setText(game.name);
+        if (game.description == null || game.description.trim().isEmpty()) {
+            gameDescription.setVisibility(View.GONE);
+        } else {
+            gameDescription.setVisibility(View.VISIBLE);
+            gameDescription.setText(game.description);
+        }
+        serverZoneLayout.setVisibility(requiresZone ? View.VISIBLE : View.GONE);
+        if (!requiresZone) {
+            serverZoneLayout.setError(null);
+            if (serverZoneInput != null) {
+                serverZoneInput.setText("");
             }
+        }
 
-            // Load products from API
-            if (categoryNo != -1) {
-                loadProducts(categoryNo);
-            } else {
-                Toast.makeText(this, "Category not found", Toast.LENGTH_SHORT).show();
-            }
-        } catch (IOException | JSONException exception) {
-            Log.e(TAG, "Failed to load game data", exception);
-            Toast.makeText(this, R.string.auth_internal_error, Toast.LENGTH_SHORT).show();
-            finish();
+        // Load products from API
+        if (categoryNo != -1) {
+            loadProducts(categoryNo);
+        } else {
+            Toast.makeText(this, "Category not found", Toast.LENGTH_SHORT).show();
         }
     }
 
@@ -237,6 +202,8 @@ public class GameActivity extends AppCompatActivity {
                     }
                     Log.d(TAG, "Loaded " + options.size() + " products for category " + categoryId);
                     nominalAdapter.submitList(options);
+                    // A background refresh may replace the list; keep the selection pointing at current data.
+                    selectedNominal = nominalAdapter.getSelected();
 
                     // Force RecyclerView to expand to fit all items
                     // Each item is approximately 108dp (92dp minHeight + 16dp marginBottom from layout)
@@ -287,28 +254,27 @@ public class GameActivity extends AppCompatActivity {
     }
 
     private void loadBalance() {
-        if (!NetworkUtils.isNetworkAvailable(this)) {
-            currentBalanceAmount.setText(R.string.home_balance_error);
+        UserSession session = UserSession.getInstance();
+        session.addListener(sessionListener);
+        User cached = session.getUser();
+        if (cached != null) {
+            sessionListener.onUserChanged(cached);
+        }
+        if (session.isFresh()) {
             return;
         }
 
-        currentBalanceAmount.setText(R.string.home_balance_loading);
-
-        apiService.fetchUserBalance(this, new ApiService.UserCallback() {
-            @Override
-            public void onSuccess(UserResponse userResponse) {
-                if (userResponse != null && userResponse.getUser() != null) {
-                    int balance = userResponse.getUser().getBalanceAsInt();
-                    String formattedBalance = CurrencyUtils.formatToRupiah(balance);
-                    currentBalanceAmount.setText(formattedBalance);
-                }
-            }
-
-            @Override
-            public void onError(String errorMessage) {
+        if (!NetworkUtils.isNetworkAvailable(this)) {
+            if (cached == null) {
                 currentBalanceAmount.setText(R.string.home_balance_error);
             }
-        });
+            return;
+        }
+
+        if (cached == null) {
+            currentBalanceAmount.setText(R.string.home_balance_loading);
+        }
+        session.refresh(this);
     }
 
     private void processTransaction() {
@@ -329,28 +295,35 @@ public class GameActivity extends AppCompatActivity {
         submitButton.setEnabled(false);
         submitButton.setText("Processing...");
 
-        apiService.createTransaction(this, productId, playerId, new ApiService.TransactionCallback() {
+        // Same key for every resubmit of this product and player until the server answers.
+        String idempotencyKey = purchaseKey.keyFor(productId + ":" + playerId);
+        apiService.createTransaction(this, productId, playerId, idempotencyKey, new ApiService.TransactionCallback() {
             @Override
             public void onSuccess(com.gamex.app.models.TransactionResponse transactionResponse) {
-                submitButton.setEnabled(true);
+                purchaseKey.reset();
+                if (transactionResponse.getTransaction() == null) {
+                    submitButton.setEnabled(true);
+                }
+                // Otherwise stay disabled; we are leaving for the status screen.
                 submitButton.setText("Submit");
 
                 if (transactionResponse.getTransaction() != null) {
-                    // Show loading animation for 3 seconds
                     Toast.makeText(GameActivity.this, "Transaction created successfully!", Toast.LENGTH_SHORT).show();
 
-                    new android.os.Handler().postDelayed(() -> {
-                        // Navigate to TransactionStatusActivity
-                        Intent intent = new Intent(GameActivity.this, TransactionStatusActivity.class);
-                        intent.putExtra("TRANSACTION_ID", transactionResponse.getTransaction().getId());
-                        startActivity(intent);
-                        finish();
-                    }, 3000);
+                    // The status screen polls for the outcome, so go there straight away.
+                    Intent intent = new Intent(GameActivity.this, TransactionStatusActivity.class);
+                    intent.putExtra("TRANSACTION_ID", transactionResponse.getTransaction().getId());
+                    startActivity(intent);
+                    finish();
                 }
             }
 
             @Override
             public void onError(String errorMessage, int statusCode) {
+                if (statusCode != -1) {
+                    // The server answered, so it did not take this order; a retry is a new one.
+                    purchaseKey.reset();
+                }
                 submitButton.setEnabled(true);
                 submitButton.setText("Submit");
 
@@ -364,10 +337,6 @@ public class GameActivity extends AppCompatActivity {
         });
     }
 
-    private static String formatCurrency(int amount) {
-        return CURRENCY_FORMAT.format(amount);
-    }
-
     private static final class NominalOption {
         final String id;
         final String displayLabel;
@@ -396,10 +365,23 @@ public class GameActivity extends AppCompatActivity {
         void submitList(List<NominalOption> newItems) {
             items.clear();
             items.addAll(newItems);
+            if (getSelected() == null) {
+                selectedId = null;
+            }
             Log.d(TAG, "NominalAdapter: submitList called with " + newItems.size() + " items, total items now: " + items.size());
             notifyDataSetChanged();
         }
 
+        @Nullable
+        NominalOption getSelected() {
+            for (NominalOption option : items) {
+                if (option.id.equals(selectedId)) {
+                    return option;
+                }
+            }
+            return null;
+        }
+
         @NonNull
         @Override
         public NominalViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -450,7 +432,7 @@ public class GameActivity extends AppCompatActivity {
             void bind(NominalOption option, boolean isSelected) {
                 label.setText(option.displayLabel);
                 detail.setText(option.detail);
-                price.setText(GameActivity.formatCurrency(option.price));
+                price.setText(CurrencyUtils.formatToRupiah(option.price));
 
                 int strokeColor = container.getContext().getColor(
                         isSelected ? R.color.gamex_green : R.color.gamex_card_stroke
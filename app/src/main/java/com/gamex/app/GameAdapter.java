@@ -67,7 +67,7 @@ class GameAdapter extends RecyclerView.Adapter<GameAdapter.GameViewHolder> {
         }
 
         void bind(GameItem item) {
-            gameLogo.setImageResource(item.drawableRes);
+            ImageLoader.getInstance().load(gameLogo, item.drawableRes);
             gameName.setText(item.name);
         }
     }
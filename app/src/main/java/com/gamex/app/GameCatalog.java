@@ -0,0 +1,65 @@
+package com.gamex.app;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * App-scoped game list with id and category-number indexes. The entries come from
+ * {@link GameTable}, which the build generates from assets/games.json after checking every
+ * drawable exists, so loading does no I/O, JSON parsing or resource lookups.
+ */
+final class GameCatalog {
+
+    private final List<GameEntry> entries;
+    private final List<GameItem> gridItems;
+    private final Map<String, GameEntry> byId;
+    private final Map<Integer, GameEntry> byCategoryNo;
+
+    GameCatalog(GameEntry[] table) {
+        Map<String, GameEntry> ids = new HashMap<>(table.length * 2);
+        Map<Integer, GameEntry> categories = new HashMap<>(table.length * 2);
+        List<GameItem> items = new ArrayList<>(table.length);
+        for (GameEntry entry : table) {
+            ids.put(entry.id, entry);
+            categories.put(entry.categoryNo, entry);
+            items.add(new GameItem(entry.id, entry.name, entry.drawableRes));
+        }
+        entries = Collections.unmodifiableList(Arrays.asList(table.clone()));
+        gridItems = Collections.unmodifiableList(items);
+        byId = ids;
+        byCategoryNo = categories;
+    }
+
+    static GameCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        static final GameCatalog INSTANCE = new GameCatalog(GameTable.entries());
+    }
+
+    List<GameEntry> getEntries() {
+        return entries;
+    }
+
+    /** Every game, in games.json order, for the home grid. */
+    List<GameItem> getGridItems() {
+        return gridItems;
+    }
+
+    @Nullable
+    GameEntry findById(String id) {
+        return byId.get(id);
+    }
+
+    @Nullable
+    GameEntry findByCategoryNo(int categoryNo) {
+        return byCategoryNo.get(categoryNo);
+    }
+}
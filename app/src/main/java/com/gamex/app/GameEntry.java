@@ -0,0 +1,23 @@
+package com.gamex.app;
+
+/**
+ * One game from assets/games.json, as compiled into {@link GameTable} at build time.
+ */
+final class GameEntry {
+    final String id;
+    final String name;
+    final String description;
+    final int drawableRes;
+    final boolean requiresServerZone;
+    final int categoryNo;
+
+    GameEntry(String id, String name, String description, int drawableRes,
+              boolean requiresServerZone, int categoryNo) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.drawableRes = drawableRes;
+        this.requiresServerZone = requiresServerZone;
+        this.categoryNo = categoryNo;
+    }
+}
@@ -0,0 +1,12 @@
+package com.gamex.app;
+
+import android.app.Application;
+
+public class GameXApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        HttpClientProvider.init(this);
+    }
+}
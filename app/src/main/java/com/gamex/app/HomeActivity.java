@@ -15,21 +15,10 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.gamex.app.models.UserResponse;
+import com.gamex.app.models.User;
 import com.google.android.material.button.MaterialButton;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
-
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.List;
 
 public class HomeActivity extends AppCompatActivity {
 
@@ -38,17 +27,31 @@ public class HomeActivity extends AppCompatActivity {
 
     private long lastBackPressedTime = 0L;
     private GameAdapter gameAdapter;
-    private ApiService apiService;
     private TextView balanceAmount;
     private ProgressDialog loadingDialog;
 
+    private final UserSession.Listener sessionListener = new UserSession.Listener() {
+        @Override
+        public void onUserChanged(User user) {
+            showBalance(user);
+        }
+
+        @Override
+        public void onUserError(String errorMessage) {
+            Log.e(TAG, "Failed to load balance: " + errorMessage);
+            if (UserSession.getInstance().getUser() == null) {
+                balanceAmount.setText(R.string.home_balance_error);
+                Toast.makeText(HomeActivity.this, R.string.home_balance_error_toast, Toast.LENGTH_SHORT).show();
+            }
+        }
+    };
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_home);
 
-        apiService = new ApiService();
         balanceAmount = findViewById(R.id.balanceAmount);
 
         MaterialButton topupButton = findViewById(R.id.topupButton);
@@ -73,7 +76,11 @@ public class HomeActivity extends AppCompatActivity {
         gameRecyclerView.setAdapter(gameAdapter);
 
         loadGames();
-        loadBalance();
+        UserSession.getInstance().addListener(sessionListener);
+        User cached = UserSession.getInstance().getUser();
+        if (cached != null) {
+            showBalance(cached);
+        }
     }
 
     @Override
@@ -85,40 +92,34 @@ public class HomeActivity extends AppCompatActivity {
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
+        UserSession.getInstance().removeListener(sessionListener);
         if (loadingDialog != null && loadingDialog.isShowing()) {
             loadingDialog.dismiss();
         }
     }
 
+    /** Called from onResume; only goes to the network when the session copy is stale. */
     private void loadBalance() {
+        UserSession session = UserSession.getInstance();
+        if (session.isFresh()) {
+            return;
+        }
         if (!NetworkUtils.isNetworkAvailable(this)) {
             showNoInternetDialog();
-            balanceAmount.setText(R.string.home_balance_error);
+            if (session.getUser() == null) {
+                balanceAmount.setText(R.string.home_balance_error);
+            }
             return;
         }
 
-        balanceAmount.setText(R.string.home_balance_loading);
-
-        apiService.fetchUserBalance(this, new ApiService.UserCallback() {
-            @Override
-            public void onSuccess(UserResponse userResponse) {
-                if (userResponse != null && userResponse.getUser() != null) {
-                    int balance = userResponse.getUser().getBalanceAsInt();
-                    String formattedBalance = CurrencyUtils.formatToRupiah(balance);
-                    balanceAmount.setText(formattedBalance);
-                }
-            }
+        if (session.getUser() == null) {
+            balanceAmount.setText(R.string.home_balance_loading);
+        }
+        session.refresh(this);
+    }
 
-            @Override
-            public void onError(String errorMessage) {
-                Log.e(TAG, "Failed to load balance: " + errorMessage);
-                balanceAmount.setText(R.string.home_balance_error);
-                Toast.makeText(HomeActivity.this, R.string.home_balance_error_toast, Toast.LENGTH_SHORT).show();
-            }
-        });
+    private void showBalance(User user) {
+        balanceAmount.setText(CurrencyUtils.formatToRupiah(user.getBalance()));
     }
 
     private void openTopupActivity() {
@@ -147,33 +148,7 @@ public class HomeActivity extends AppCompatActivity {
     }
 
     private void loadGames() {
-        try (InputStream inputStream = getAssets().open("games.json");
-             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            StringBuilder jsonBuilder = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonBuilder.append(line);
-            }
-
-            JSONArray array = new JSONArray(jsonBuilder.toString());
-            List<GameItem> items = new ArrayList<>();
-            for (int i = 0; i < array.length(); i++) {
-                JSONObject object = array.getJSONObject(i);
-                String drawableName = object.optString("drawable");
-                String id = object.optString("id", drawableName);
-                String name = object.optString("name");
-                int drawableRes = getResources().getIdentifier(drawableName, "drawable", getPackageName());
-                if (drawableRes == 0) {
-                    Log.w(TAG, "Drawable not found for name: " + drawableName);
-                    continue;
-                }
-                items.add(new GameItem(id, name, drawableRes));
-            }
-            gameAdapter.submitList(items);
-        } catch (IOException | JSONException exception) {
-            Log.e(TAG, "Failed to load games", exception);
-            Toast.makeText(this, R.string.auth_internal_error, Toast.LENGTH_SHORT).show();
-        }
+        gameAdapter.submitList(GameCatalog.getInstance().getGridItems());
     }
 
     private void openGameDetail(GameItem item) {
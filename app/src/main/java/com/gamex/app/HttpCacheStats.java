@@ -0,0 +1,92 @@
+package com.gamex.app;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Counters for the HTTP disk cache. A full hit or a 304 revalidation means the body came
+ * from disk; the bytes read from it are counted as saved.
+ */
+public final class HttpCacheStats {
+
+    private static final AtomicLong NETWORK = new AtomicLong();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong CONDITIONAL_HITS = new AtomicLong();
+    private static final AtomicLong BYTES_SAVED = new AtomicLong();
+
+    private HttpCacheStats() {
+        // Utility class.
+    }
+
+    public static long networkCount() {
+        return NETWORK.get();
+    }
+
+    public static long hitCount() {
+        return HITS.get();
+    }
+
+    public static long conditionalHitCount() {
+        return CONDITIONAL_HITS.get();
+    }
+
+    public static long bytesSaved() {
+        return BYTES_SAVED.get();
+    }
+
+    public static String summary() {
+        return "network=" + NETWORK.get()
+                + " hits=" + HITS.get()
+                + " revalidated=" + CONDITIONAL_HITS.get()
+                + " bytesSaved=" + BYTES_SAVED.get();
+    }
+
+    /**
+     * Application interceptor; sees the final response after the cache has answered.
+     */
+    static final class RecordingInterceptor implements Interceptor {
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Response response = chain.proceed(chain.request());
+            Response network = response.networkResponse();
+            if (response.cacheResponse() == null) {
+                NETWORK.incrementAndGet();
+                return response;
+            }
+            if (network == null) {
+                HITS.incrementAndGet();
+            } else if (network.code() == 304) {
+                CONDITIONAL_HITS.incrementAndGet();
+            } else {
+                NETWORK.incrementAndGet();
+                return response;
+            }
+
+            ResponseBody body = response.body();
+            if (body == null) {
+                return response;
+            }
+            BufferedSource counted = Okio.buffer(new ForwardingSource(body.source()) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read = super.read(sink, byteCount);
+                    if (read > 0) {
+                        BYTES_SAVED.addAndGet(read);
+                    }
+                    return read;
+                }
+            });
+            return response.newBuilder()
+                    .body(ResponseBody.create(counted, body.contentType(), body.contentLength()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.gamex.app;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.gamex.app.models.ModelTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Cache;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Process-wide HTTP stack shared by every {@link ApiService}.
+ *
+ * <p>Keeping a single {@link OkHttpClient} means one connection pool and one dispatcher
+ * for the whole app, so a warm TLS / HTTP/2 connection to {@link ApiConfig#getBaseUrl()}
+ * survives screen changes instead of being thrown away with each Activity. Nothing here
+ * is ever shut down; the pool is released when the process dies.
+ *
+ * <p>Once {@link #init(Context)} has run the client also has a {@link #CACHE_SIZE_BYTES}
+ * disk cache. {@link CachePolicyInterceptor} decides per endpoint what may be stored and
+ * {@link HttpCacheStats} counts hits and bytes served from disk. Every call is timed by
+ * {@link NetworkMetrics}.
+ */
+public final class HttpClientProvider {
+
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final long CACHE_SIZE_BYTES = 10L * 1024 * 1024;
+    private static final String TAG = "HttpClientProvider";
+
+    private static volatile File cacheDir;
+    private static final AtomicBoolean PRECONNECTING = new AtomicBoolean();
+
+    private HttpClientProvider() {
+        // Utility class.
+    }
+
+    /**
+     * Points the HTTP cache at the app cache directory. Call from Application.onCreate,
+     * before the first request; a client built earlier runs without a cache.
+     */
+    public static void init(Context context) {
+        cacheDir = new File(context.getCacheDir(), "http");
+    }
+
+    /**
+     * Drops every cached response. Does disk I/O, so call it off the main thread.
+     */
+    public static void clearCache() {
+        Cache cache = getClient().cache();
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evictAll();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to clear HTTP cache", e);
+        }
+    }
+
+    public static OkHttpClient getClient() {
+        return ClientHolder.CLIENT;
+    }
+
+    public static Gson getGson() {
+        return GsonHolder.GSON;
+    }
+
+    /**
+     * Resolves DNS and completes TCP and TLS to {@link ApiConfig#getBaseUrl()} in the
+     * background with a HEAD request, leaving a warm connection in the pool for the first
+     * real request. Does nothing if a connection is already pooled or being opened.
+     */
+    public static void preconnect() {
+        OkHttpClient client = getClient();
+        if (client.connectionPool().idleConnectionCount() > 0 || !PRECONNECTING.compareAndSet(false, true)) {
+            return;
+        }
+        Request request = new Request.Builder()
+                .url(ApiConfig.getBaseUrl())
+                .head()
+                .build();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                PRECONNECTING.set(false);
+                Log.w(TAG, "Preconnect failed: " + e.getMessage());
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                response.close();
+                PRECONNECTING.set(false);
+            }
+        });
+    }
+
+    private static Dispatcher newDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(AppExecutors.MAX_NETWORK_THREADS);
+        return dispatcher;
+    }
+
+    private static OkHttpClient newClient() {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .dispatcher(newDispatcher())
+                .eventListenerFactory(NetworkMetrics.listenerFactory())
+                .addInterceptor(new HttpCacheStats.RecordingInterceptor())
+                .addNetworkInterceptor(new CachePolicyInterceptor());
+        File dir = cacheDir;
+        if (dir != null) {
+            builder.cache(new Cache(dir, CACHE_SIZE_BYTES));
+        }
+        return builder.build();
+    }
+
+    private static final class ClientHolder {
+        static final OkHttpClient CLIENT = newClient();
+    }
+
+    private static final class GsonHolder {
+        static final Gson GSON = new GsonBuilder()
+                .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+                .create();
+    }
+}
@@ -0,0 +1,203 @@
+package com.gamex.app;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.LruCache;
+import android.widget.ImageView;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads bundled raster drawables into ImageViews. Decoding happens on
+ * {@link AppExecutors#background()} at the size the view is drawn at (fit inside, never
+ * upscaled), and results live in a byte-budgeted LruCache keyed by resource id, so the home
+ * grid and the game header share one bitmap per game. Must be called on the main thread.
+ */
+final class ImageLoader {
+
+    /** Share of the heap the cache may use. */
+    private static final int HEAP_FRACTION = 8;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Map<Integer, Request> inFlight = new HashMap<>();
+    private final LruCache<Integer, Entry> cache;
+
+    private ImageLoader() {
+        int budget = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / HEAP_FRACTION);
+        cache = new LruCache<Integer, Entry>(budget) {
+            @Override
+            protected int sizeOf(Integer key, Entry entry) {
+                return entry.bitmap.getAllocationByteCount();
+            }
+        };
+    }
+
+    static ImageLoader getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        static final ImageLoader INSTANCE = new ImageLoader();
+    }
+
+    void load(ImageView view, @DrawableRes int resId) {
+        view.setTag(R.id.image_loader_res, resId);
+
+        int width = targetSize(view.getWidth(), view.getLayoutParams() != null ? view.getLayoutParams().width : 0);
+        int height = targetSize(view.getHeight(), view.getLayoutParams() != null ? view.getLayoutParams().height : 0);
+        if (width == 0 || height == 0) {
+            // Not measured yet (first bind in a RecyclerView); try again after layout.
+            view.setImageDrawable(null);
+            view.post(() -> {
+                if (isCurrent(view, resId)) {
+                    int screen = view.getResources().getDisplayMetrics().widthPixels;
+                    start(view, resId, view.getWidth() > 0 ? view.getWidth() : screen,
+                            view.getHeight() > 0 ? view.getHeight() : screen);
+                }
+            });
+            return;
+        }
+        start(view, resId, width, height);
+    }
+
+    private void start(ImageView view, int resId, int width, int height) {
+        Entry cached = cache.get(resId);
+        if (cached != null) {
+            view.setImageBitmap(cached.bitmap);
+            if (cached.covers(width, height)) {
+                return;
+            }
+            // Keep showing the smaller copy while a sharper one decodes.
+        } else {
+            view.setImageDrawable(null);
+        }
+
+        Request pending = inFlight.get(resId);
+        if (pending != null && pending.width >= width && pending.height >= height) {
+            pending.targets.add(view);
+            return;
+        }
+
+        Request request = new Request(width, height);
+        request.targets.add(view);
+        inFlight.put(resId, request);
+        Resources resources = view.getResources();
+        AppExecutors.background().execute(() -> {
+            Entry decoded = decode(resources, resId, width, height);
+            mainHandler.post(() -> deliver(resId, request, decoded));
+        });
+    }
+
+    private void deliver(int resId, Request request, @Nullable Entry decoded) {
+        if (inFlight.get(resId) == request) {
+            inFlight.remove(resId);
+        }
+        if (decoded != null) {
+            Entry cached = cache.get(resId);
+            if (cached == null || cached.bitmap.getWidth() < decoded.bitmap.getWidth()) {
+                cache.put(resId, decoded);
+            }
+        }
+        for (ImageView view : request.targets) {
+            if (!isCurrent(view, resId)) {
+                continue;
+            }
+            if (decoded != null) {
+                view.setImageBitmap(decoded.bitmap);
+            } else {
+                // Not a bitmap (e.g. a vector); let the framework inflate it.
+                view.setImageResource(resId);
+            }
+        }
+    }
+
+    private static boolean isCurrent(ImageView view, int resId) {
+        Object tag = view.getTag(R.id.image_loader_res);
+        return tag instanceof Integer && (Integer) tag == resId;
+    }
+
+    private static int targetSize(int measured, int layoutParam) {
+        if (measured > 0) {
+            return measured;
+        }
+        // MATCH_PARENT and WRAP_CONTENT are negative.
+        return Math.max(layoutParam, 0);
+    }
+
+    @Nullable
+    private static Entry decode(Resources resources, int resId, int width, int height) {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        bounds.inScaled = false;
+        BitmapFactory.decodeResource(resources, resId, bounds);
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            return null;
+        }
+
+        int sourceWidth = bounds.outWidth;
+        int sourceHeight = bounds.outHeight;
+        int targetWidth = fittedWidth(sourceWidth, sourceHeight, width, height);
+
+        // Power-of-two subsampling first (cheap, done by the decoder), then an exact scale.
+        int sampleSize = 1;
+        while (sourceWidth / (sampleSize * 2) >= targetWidth) {
+            sampleSize *= 2;
+        }
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = sampleSize;
+        int sampledWidth = sourceWidth / sampleSize;
+        if (sampledWidth > targetWidth) {
+            options.inScaled = true;
+            options.inDensity = sampledWidth;
+            options.inTargetDensity = targetWidth;
+        } else {
+            options.inScaled = false;
+        }
+
+        Bitmap bitmap = BitmapFactory.decodeResource(resources, resId, options);
+        return bitmap != null ? new Entry(bitmap, sourceWidth, sourceHeight) : null;
+    }
+
+    /** Width of the source scaled to fit inside width x height, never larger than the source. */
+    static int fittedWidth(int sourceWidth, int sourceHeight, int width, int height) {
+        double scale = Math.min(1d, Math.min((double) width / sourceWidth, (double) height / sourceHeight));
+        return Math.max(1, (int) Math.ceil(sourceWidth * scale));
+    }
+
+    private static final class Entry {
+        final Bitmap bitmap;
+        final int sourceWidth;
+        final int sourceHeight;
+
+        Entry(Bitmap bitmap, int sourceWidth, int sourceHeight) {
+            this.bitmap = bitmap;
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+        }
+
+        boolean covers(int width, int height) {
+            // One pixel of slack for the decoder's rounding.
+            return bitmap.getWidth() + 1 >= fittedWidth(sourceWidth, sourceHeight, width, height);
+        }
+    }
+
+    private static final class Request {
+        final int width;
+        final int height;
+        final List<ImageView> targets = new ArrayList<>();
+
+        Request(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.gamex.app;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+
+/**
+ * Streams JSON straight between Gson and OkHttp bodies, so a page of results is never
+ * held as one big String on top of the objects decoded from it.
+ */
+final class JsonBodies {
+
+    static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private JsonBodies() {
+        // Utility class.
+    }
+
+    static <T> T read(Gson gson, ResponseBody body, Type type) throws IOException {
+        try (JsonReader reader = gson.newJsonReader(body.charStream())) {
+            return gson.fromJson(reader, type);
+        } catch (JsonIOException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e);
+        } catch (JsonSyntaxException e) {
+            throw new IOException("Malformed JSON response", e);
+        }
+    }
+
+    static RequestBody create(Gson gson, Object value) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                JsonWriter writer = gson.newJsonWriter(
+                        new OutputStreamWriter(sink.outputStream(), StandardCharsets.UTF_8));
+                try {
+                    gson.toJson(value, value.getClass(), writer);
+                } catch (JsonIOException e) {
+                    throw new IOException(e);
+                }
+                writer.flush();
+            }
+        };
+    }
+}
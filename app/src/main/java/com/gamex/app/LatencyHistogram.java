@@ -0,0 +1,81 @@
+package com.gamex.app;
+
+/**
+ * Fixed-memory latency histogram in microseconds. Buckets are log-linear (eight per power of
+ * two), so any percentile is reported within 12.5% of the true value whatever the range,
+ * and recording is a couple of shifts and an array increment.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Values at or above 2^31 us (about 36 minutes) land in the last bucket. */
+    private static final int MAX_EXPONENT = 31;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long max;
+
+    synchronized void record(long micros) {
+        long value = Math.max(0L, micros);
+        counts[indexOf(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    synchronized long count() {
+        return count;
+    }
+
+    synchronized long meanMicros() {
+        return count == 0 ? 0L : sum / count;
+    }
+
+    synchronized long maxMicros() {
+        return max;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.95
+     * @return upper bound of the bucket holding that rank, never above the largest value seen
+     */
+    synchronized long percentileMicros(double quantile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
@@ -18,16 +18,11 @@ import org.json.JSONObject;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class LoginActivity extends AppCompatActivity {
 
-    private static final String LOGIN_URL = "http://api.amazon.web.id/api/auth/login";
     private static final String TAG = "LoginActivity";
 
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
-
     private EditText emailInput;
     private EditText passwordInput;
     private MaterialButton loginButton;
@@ -43,12 +38,9 @@ public class LoginActivity extends AppCompatActivity {
         loginButton = findViewById(R.id.loginSubmitButton);
 
         loginButton.setOnClickListener(v -> handleLogin());
-    }
 
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        executor.shutdownNow();
+        // Warm up DNS, TCP and TLS while the user fills in the form.
+        HttpClientProvider.preconnect();
     }
 
     private void handleLogin() {
@@ -81,13 +73,13 @@ public class LoginActivity extends AppCompatActivity {
 
         setLoading(true);
 
-        executor.execute(() -> {
+        AppExecutors.networkIO().execute(() -> {
             try {
                 JSONObject requestBody = new JSONObject();
                 requestBody.put("email", email);
                 requestBody.put("password", password);
 
-                ApiClient.ApiResponse response = ApiClient.postJson(LOGIN_URL, requestBody);
+                ApiClient.ApiResponse response = ApiClient.postJson(ApiConfig.getLoginEndpoint(), requestBody);
                 if (response.statusCode == HttpURLConnection.HTTP_OK) {
                     handleLoginSuccess(response.body);
                 } else if (response.statusCode == 422) {
@@ -102,7 +94,7 @@ public class LoginActivity extends AppCompatActivity {
             } finally {
                 runOnUiThread(() -> setLoading(false));
             }
-        });
+        }, RequestPriority.INTERACTIVE);
     }
 
     private void handleLoginSuccess(String body) {
@@ -12,13 +12,12 @@ import androidx.core.splashscreen.SplashScreen;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
-import com.gamex.app.models.UserResponse;
+import com.gamex.app.models.User;
 import com.google.android.material.button.MaterialButton;
 
 public class MainActivity extends AppCompatActivity {
 
     private static final String TAG = "MainActivity";
-    private ApiService apiService;
     private boolean isNavigating = false;
 
     @Override
@@ -27,49 +26,38 @@ public class MainActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
 
         if (AuthManager.isLoggedIn(this)) {
-            apiService = new ApiService();
             fetchAndValidateRole();
             return;
         }
 
+        // The user will log in from here; have the connection ready by then.
+        HttpClientProvider.preconnect();
         showLandingScreen();
     }
 
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
-
     private void fetchAndValidateRole() {
         if (!NetworkUtils.isNetworkAvailable(this)) {
             navigateBasedOnCachedRole();
             return;
         }
 
-        apiService.fetchUserBalance(this, new ApiService.UserCallback() {
+        UserSession.getInstance().requestUser(this, this, new UserSession.Listener() {
             @Override
-            public void onSuccess(UserResponse userResponse) {
-                if (userResponse != null && userResponse.getUser() != null) {
-                    String apiRole = userResponse.getUser().getRole();
-                    String cachedRole = AuthManager.getUserRole(MainActivity.this);
-
-                    if (!TextUtils.isEmpty(apiRole) && !apiRole.equals(cachedRole)) {
-                        Log.d(TAG, "Role changed from " + cachedRole + " to " + apiRole + ", updating...");
-                        AuthManager.saveUserRole(MainActivity.this, apiRole);
-                        cachedRole = apiRole;
-                    }
-
-                    navigateBasedOnRole(cachedRole);
-                } else {
-                    navigateBasedOnCachedRole();
+            public void onUserChanged(User user) {
+                String apiRole = user.getRole();
+                String cachedRole = AuthManager.getUserRole(MainActivity.this);
+
+                if (!TextUtils.isEmpty(apiRole) && !apiRole.equals(cachedRole)) {
+                    Log.d(TAG, "Role changed from " + cachedRole + " to " + apiRole + ", updating...");
+                    AuthManager.saveUserRole(MainActivity.this, apiRole);
+                    cachedRole = apiRole;
                 }
+
+                navigateBasedOnRole(cachedRole);
             }
 
             @Override
-            public void onError(String errorMessage) {
+            public void onUserError(String errorMessage) {
                 Log.e(TAG, "Failed to fetch user role: " + errorMessage);
                 navigateBasedOnCachedRole();
             }
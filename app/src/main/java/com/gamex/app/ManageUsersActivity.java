@@ -37,7 +37,7 @@ public class ManageUsersActivity extends AppCompatActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_manage_users);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         MaterialToolbar toolbar = findViewById(R.id.toolbar);
         toolbar.setNavigationOnClickListener(v -> finish());
@@ -57,7 +57,7 @@ public class ManageUsersActivity extends AppCompatActivity {
             intent.putExtra("user_email", user.getEmail());
             intent.putExtra("user_phone", user.getPhone());
             intent.putExtra("user_role", user.getRole());
-            intent.putExtra("user_balance", user.getBalance());
+            intent.putExtra("user_balance", user.getBalance().toPlainString());
             startActivity(intent);
         });
 
@@ -103,19 +103,22 @@ public class ManageUsersActivity extends AppCompatActivity {
         apiService.fetchAdminUsers(this, page, new ApiService.PaginatedUsersCallback() {
             @Override
             public void onSuccess(PaginatedUsersResponse response) {
-                swipeRefresh.setRefreshing(false);
-                loadingView.setVisibility(View.GONE);
-
                 if (response != null && response.getData() != null && !response.getData().isEmpty()) {
-                    adapter.setUsers(response.getData());
-                    recyclerView.setVisibility(View.VISIBLE);
-                    emptyView.setVisibility(View.GONE);
-
-                    currentPage = response.getCurrentPage();
-                    lastPage = response.getLastPage();
-
-                    updatePaginationControls();
+                    RowMapper.mapUsers(ManageUsersActivity.this, response.getData(), rows -> {
+                        swipeRefresh.setRefreshing(false);
+                        loadingView.setVisibility(View.GONE);
+                        adapter.setRows(rows);
+                        recyclerView.setVisibility(View.VISIBLE);
+                        emptyView.setVisibility(View.GONE);
+
+                        currentPage = response.getCurrentPage();
+                        lastPage = response.getLastPage();
+
+                        updatePaginationControls();
+                    });
                 } else {
+                    swipeRefresh.setRefreshing(false);
+                    loadingView.setVisibility(View.GONE);
                     recyclerView.setVisibility(View.GONE);
                     emptyView.setVisibility(View.VISIBLE);
                 }
@@ -138,12 +141,4 @@ public class ManageUsersActivity extends AppCompatActivity {
         btnPrevious.setEnabled(currentPage > 1);
         btnNext.setEnabled(currentPage < lastPage);
     }
-
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
 }
@@ -0,0 +1,329 @@
+package com.gamex.app;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Where request time goes, per logical endpoint ("me", "products", "transactions_page", ...).
+ * An OkHttp {@link EventListener} installed on the shared client times DNS, connect, TLS,
+ * request write, time to first byte and body read for every call, counts bytes each way,
+ * and feeds {@link LatencyHistogram}s. {@link #report()} renders p50/p95/p99 per endpoint
+ * and phase; {@link #writeReport(Context, String)} saves it for pulling off a device.
+ */
+public final class NetworkMetrics {
+
+    static final String REPORT_FILE = "network-metrics.txt";
+    static final String PRECONNECT = "preconnect";
+
+    private static final String TAG = "NetworkMetrics";
+
+    enum Phase { TOTAL, DNS, CONNECT, TLS, REQUEST, TTFB, BODY }
+
+    private static final Map<String, EndpointStats> ENDPOINTS = new TreeMap<>();
+    /** DNS + connect time paid by the last preconnect, until a real call reports on it; -1 if none. */
+    private static final AtomicLong PRECONNECT_SETUP_NANOS = new AtomicLong(-1L);
+
+    private NetworkMetrics() {
+        // Utility class.
+    }
+
+    static EventListener.Factory listenerFactory() {
+        return call -> new CallListener(endpointOf(call.request()));
+    }
+
+    public static String report() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.US, "%-24s %-8s %6s %9s %9s %9s %9s%n",
+                "endpoint", "phase", "count", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        synchronized (ENDPOINTS) {
+            for (Map.Entry<String, EndpointStats> entry : ENDPOINTS.entrySet()) {
+                entry.getValue().appendTo(entry.getKey(), out);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes {@code report}, usually {@link #report()} plus whatever the caller adds, to the
+     * app files directory. Does disk I/O.
+     */
+    public static File writeReport(Context context, String report) throws IOException {
+        File file = new File(context.getFilesDir(), REPORT_FILE);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(report);
+        }
+        return file;
+    }
+
+    public static void reset() {
+        synchronized (ENDPOINTS) {
+            ENDPOINTS.clear();
+        }
+    }
+
+    static EndpointStats statsFor(String endpoint) {
+        synchronized (ENDPOINTS) {
+            EndpointStats stats = ENDPOINTS.get(endpoint);
+            if (stats == null) {
+                stats = new EndpointStats();
+                ENDPOINTS.put(endpoint, stats);
+            }
+            return stats;
+        }
+    }
+
+    private static String endpointOf(Request request) {
+        HttpUrl url = request.url();
+        return endpointName(request.method(), url.encodedPath(), url.queryParameter("page") != null);
+    }
+
+    /**
+     * Maps a request onto the logical endpoint it belongs to; ids in the path are ignored.
+     */
+    static String endpointName(String method, String path, boolean paged) {
+        if ("HEAD".equals(method)) {
+            return PRECONNECT;
+        }
+        String[] segments = path.startsWith("/") ? path.substring(1).split("/") : path.split("/");
+        if (segments.length < 2 || !"api".equals(segments[0])) {
+            return "other";
+        }
+        String resource = segments[1];
+        int depth = segments.length;
+        switch (resource) {
+            case "auth":
+                return depth == 3 ? segments[2] : "other";
+            case "categories":
+                return "products";
+            case "deposits":
+                return depth == 2 ? "deposit_create" : "deposit_status";
+            case "transactions":
+                if (depth == 2) {
+                    return "POST".equals(method) ? "transaction_create" : (paged ? "transactions_page" : "transactions");
+                }
+                if ("my".equals(segments[2])) {
+                    return "transactions_my";
+                }
+                return depth == 4 ? "transaction_refresh" : "transaction_status";
+            case "admin":
+                if (depth == 3) {
+                    return "POST".equals(method) ? "admin_user_create" : "admin_users_page";
+                }
+                if (depth == 5) {
+                    return "admin_user_toggle_role";
+                }
+                return "DELETE".equals(method) ? "admin_user_delete" : "admin_user_update";
+            default:
+                return "other";
+        }
+    }
+
+    static final class EndpointStats {
+        private final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+        private long calls;
+        private long failures;
+        private long bytesSent;
+        private long bytesReceived;
+
+        EndpointStats() {
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+
+        LatencyHistogram phase(Phase phase) {
+            return phases[phase.ordinal()];
+        }
+
+        synchronized void finish(boolean failed, long sent, long received) {
+            calls++;
+            if (failed) {
+                failures++;
+            }
+            bytesSent += sent;
+            bytesReceived += received;
+        }
+
+        synchronized void appendTo(String endpoint, StringBuilder out) {
+            out.append(String.format(Locale.US, "%s: calls=%d failed=%d sent=%dB received=%dB%n",
+                    endpoint, calls, failures, bytesSent, bytesReceived));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = phases[phase.ordinal()];
+                if (histogram.count() == 0) {
+                    continue;
+                }
+                out.append(String.format(Locale.US, "%-24s %-8s %6d %9.1f %9.1f %9.1f %9.1f%n",
+                        "", phase.name().toLowerCase(Locale.ROOT), histogram.count(),
+                        histogram.percentileMicros(0.50) / 1000d,
+                        histogram.percentileMicros(0.95) / 1000d,
+                        histogram.percentileMicros(0.99) / 1000d,
+                        histogram.maxMicros() / 1000d));
+            }
+        }
+    }
+
+    /**
+     * One per call; OkHttp drives it from whichever thread runs the call, one event at a
+     * time, so the fields need no locking.
+     */
+    private static final class CallListener extends EventListener {
+        private final String endpoint;
+        private long callStart;
+        private long dnsStart;
+        private long connectStart;
+        private long tlsStart;
+        private long requestStart;
+        private long requestEnd;
+        private long bodyStart;
+        private long bytesSent;
+        private long bytesReceived;
+        private long setupNanos;
+        private boolean connected;
+
+        CallListener(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void callStart(Call call) {
+            callStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            dnsStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> addresses) {
+            setupNanos += System.nanoTime() - dnsStart;
+            record(Phase.DNS, dnsStart);
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress address, Proxy proxy) {
+            connectStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectStart(Call call) {
+            tlsStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectEnd(Call call, Handshake handshake) {
+            record(Phase.TLS, tlsStart);
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress address, Proxy proxy, Protocol protocol) {
+            connected = true;
+            setupNanos += System.nanoTime() - connectStart;
+            record(Phase.CONNECT, connectStart);
+        }
+
+        @Override
+        public void requestHeadersStart(Call call) {
+            requestStart = System.nanoTime();
+        }
+
+        @Override
+        public void requestHeadersEnd(Call call, Request request) {
+            requestEnd = System.nanoTime();
+            bytesSent += request.headers().byteCount();
+        }
+
+        @Override
+        public void requestBodyEnd(Call call, long byteCount) {
+            requestEnd = System.nanoTime();
+            bytesSent += byteCount;
+        }
+
+        @Override
+        public void responseHeadersEnd(Call call, Response response) {
+            record(Phase.REQUEST, requestStart, requestEnd);
+            record(Phase.TTFB, requestEnd);
+            bytesReceived += response.headers().byteCount();
+        }
+
+        @Override
+        public void responseBodyStart(Call call) {
+            bodyStart = System.nanoTime();
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            record(Phase.BODY, bodyStart);
+            bytesReceived += byteCount;
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            record(Phase.TOTAL, callStart);
+            statsFor(endpoint).finish(false, bytesSent, bytesReceived);
+            reportWarmStart();
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            record(Phase.TOTAL, callStart);
+            statsFor(endpoint).finish(true, bytesSent, bytesReceived);
+        }
+
+        /**
+         * A preconnect remembers what the handshake cost; the first real call after it logs
+         * whether it found the connection warm, and so saved that time.
+         */
+        private void reportWarmStart() {
+            if (PRECONNECT.equals(endpoint)) {
+                if (connected) {
+                    PRECONNECT_SETUP_NANOS.set(setupNanos);
+                }
+                return;
+            }
+            long saved = PRECONNECT_SETUP_NANOS.getAndSet(-1L);
+            if (saved < 0L) {
+                return;
+            }
+            if (connected) {
+                Log.i(TAG, "First request (" + endpoint + ") opened its own connection; preconnect did not help");
+            } else {
+                Log.i(TAG, String.format(Locale.US, "First request (%s) reused the preconnected connection, saved %.1f ms",
+                        endpoint, saved / 1_000_000d));
+            }
+        }
+
+        private void record(Phase phase, long startNanos) {
+            record(phase, startNanos, System.nanoTime());
+        }
+
+        private void record(Phase phase, long startNanos, long endNanos) {
+            if (startNanos != 0L) {
+                statsFor(endpoint).phase(phase).record((endNanos - startNanos) / 1000L);
+            }
+        }
+    }
+}
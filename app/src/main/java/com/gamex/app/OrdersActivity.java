@@ -20,17 +20,22 @@ import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 import com.gamex.app.models.MyTransactionsResponse;
 import com.gamex.app.models.Transaction;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.Locale;
 
 public class OrdersActivity extends AppCompatActivity {
 
     private static final String TAG = "OrdersActivity";
 
+    /** Upper bound on pages fetched by one delta sync. */
+    private static final int MAX_SYNC_PAGES = 20;
+
     private ApiService apiService;
+    private TransactionStore transactionStore;
+    /** Latest {@code updated_at} in the store, once read from it. */
+    private String syncCursor;
+    /** Whether the list shows something, stored or fresh; a spinner is only for an empty screen. */
+    private boolean historyShown;
     private SwipeRefreshLayout swipeRefreshLayout;
     private ProgressBar loadingIndicator;
     private RecyclerView ordersRecyclerView;
@@ -43,21 +48,14 @@ public class OrdersActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_orders);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
+        transactionStore = TransactionStore.getInstance(this);
 
         initializeViews();
         setupListeners();
         loadTransactions();
     }
 
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
-
     private void initializeViews() {
         ImageView backButton = findViewById(R.id.backButton);
         backButton.setOnClickListener(v -> finish());
@@ -80,34 +78,77 @@ public class OrdersActivity extends AppCompatActivity {
     }
 
     private void setupListeners() {
-        swipeRefreshLayout.setOnRefreshListener(this::loadTransactions);
+        swipeRefreshLayout.setOnRefreshListener(() -> syncTransactions(syncCursor, 1));
     }
 
+    /** Draws the stored history right away, then fetches what changed since it was stored. */
     private void loadTransactions() {
+        AppExecutors.diskIO().execute(() -> {
+            List<Transaction> stored = transactionStore.loadAll();
+            String cursor = transactionStore.syncCursor();
+            runOnUiThread(() -> {
+                if (isDestroyed()) {
+                    return;
+                }
+                syncCursor = cursor;
+                if (!stored.isEmpty()) {
+                    showTransactions(stored);
+                }
+                syncTransactions(cursor, 1);
+            });
+        });
+    }
+
+    /**
+     * Merges the server's changes into the store and redraws from it. A full sync (no
+     * cursor) takes the first page, as the screen always has; a delta sync follows every
+     * page of changes so none are skipped when the cursor moves past them.
+     */
+    private void syncTransactions(String cursor, int page) {
         if (!NetworkUtils.isNetworkAvailable(this)) {
             swipeRefreshLayout.setRefreshing(false);
-            DialogUtils.showNoInternetDialog(this, (dialog, which) -> loadTransactions());
+            if (!historyShown) {
+                DialogUtils.showNoInternetDialog(this, (dialog, which) -> syncTransactions(syncCursor, 1));
+            }
             return;
         }
 
-        if (!swipeRefreshLayout.isRefreshing()) {
+        if (!historyShown && !swipeRefreshLayout.isRefreshing()) {
             showLoading(true);
         }
 
-        apiService.fetchMyTransactions(this, new ApiService.MyTransactionsCallback() {
+        apiService.fetchMyTransactions(this, cursor, page, new ApiService.MyTransactionsCallback() {
             @Override
             public void onSuccess(MyTransactionsResponse myTransactionsResponse) {
-                swipeRefreshLayout.setRefreshing(false);
-                showLoading(false);
-
-                if (myTransactionsResponse.getData() != null && !myTransactionsResponse.getData().isEmpty()) {
-                    emptyText.setVisibility(View.GONE);
-                    ordersRecyclerView.setVisibility(View.VISIBLE);
-                    transactionAdapter.submitList(myTransactionsResponse.getData());
-                } else {
-                    emptyText.setVisibility(View.VISIBLE);
-                    ordersRecyclerView.setVisibility(View.GONE);
-                }
+                // A backend that ignores updated_since sends the whole history page by page;
+                // keep only what is newer than the cursor, and once a page has nothing newer,
+                // the rest is already stored.
+                List<Transaction> changed = cursor != null
+                    ? changesSince(myTransactionsResponse.getData(), cursor)
+                    : myTransactionsResponse.getData();
+                boolean morePages = cursor != null && !changed.isEmpty()
+                    && myTransactionsResponse.hasNextPage() && page < MAX_SYNC_PAGES;
+                boolean firstDraw = !historyShown;
+                AppExecutors.diskIO().execute(() -> {
+                    boolean written = transactionStore.upsert(changed);
+                    List<Transaction> merged = written || firstDraw ? transactionStore.loadAll() : null;
+                    String newCursor = transactionStore.syncCursor();
+                    runOnUiThread(() -> {
+                        if (isDestroyed()) {
+                            return;
+                        }
+                        if (morePages) {
+                            syncTransactions(cursor, page + 1);
+                        } else {
+                            syncCursor = newCursor;
+                            swipeRefreshLayout.setRefreshing(false);
+                            showLoading(false);
+                        }
+                        if (merged != null) {
+                            showTransactions(merged);
+                        }
+                    });
+                });
             }
 
             @Override
@@ -121,15 +162,43 @@ public class OrdersActivity extends AppCompatActivity {
         });
     }
 
+    /** {@code updated_at} values are ISO-8601 in UTC, so they order as strings. */
+    private static List<Transaction> changesSince(List<Transaction> transactions, String cursor) {
+        List<Transaction> changed = new ArrayList<>();
+        if (transactions == null) {
+            return changed;
+        }
+        for (Transaction transaction : transactions) {
+            String updatedAt = transaction.getUpdatedAt();
+            if (updatedAt != null && updatedAt.compareTo(cursor) > 0) {
+                changed.add(transaction);
+            }
+        }
+        return changed;
+    }
+
+    private void showTransactions(List<Transaction> transactions) {
+        historyShown = true;
+        if (!transactions.isEmpty()) {
+            RowMapper.mapOrders(this, transactions, rows -> {
+                emptyText.setVisibility(View.GONE);
+                ordersRecyclerView.setVisibility(View.VISIBLE);
+                transactionAdapter.submitList(rows);
+            });
+        } else {
+            emptyText.setVisibility(View.VISIBLE);
+            ordersRecyclerView.setVisibility(View.GONE);
+        }
+    }
+
     private void showLoading(boolean show) {
         loadingIndicator.setVisibility(show ? View.VISIBLE : View.GONE);
     }
 
     private static class TransactionAdapter extends RecyclerView.Adapter<TransactionAdapter.TransactionViewHolder> {
 
-        private final List<Transaction> transactions = new ArrayList<>();
+        private final List<TransactionRow> rows = new ArrayList<>();
         private final OnTransactionClickListener clickListener;
-        private final SimpleDateFormat dateFormat = new SimpleDateFormat("dd MMM yyyy, HH:mm", Locale.getDefault());
 
         interface OnTransactionClickListener {
             void onTransactionClick(Transaction transaction);
@@ -139,9 +208,9 @@ public class OrdersActivity extends AppCompatActivity {
             this.clickListener = clickListener;
         }
 
-        void submitList(List<Transaction> newTransactions) {
-            transactions.clear();
-            transactions.addAll(newTransactions);
+        void submitList(List<TransactionRow> newRows) {
+            rows.clear();
+            rows.addAll(newRows);
             notifyDataSetChanged();
         }
 
@@ -155,13 +224,12 @@ public class OrdersActivity extends AppCompatActivity {
 
         @Override
         public void onBindViewHolder(@NonNull TransactionViewHolder holder, int position) {
-            Transaction transaction = transactions.get(position);
-            holder.bind(transaction, dateFormat);
+            holder.bind(rows.get(position));
         }
 
         @Override
         public int getItemCount() {
-            return transactions.size();
+            return rows.size();
         }
 
         class TransactionViewHolder extends RecyclerView.ViewHolder {
@@ -182,52 +250,18 @@ public class OrdersActivity extends AppCompatActivity {
                 itemView.setOnClickListener(v -> {
                     int position = getAdapterPosition();
                     if (position != RecyclerView.NO_POSITION) {
-                        clickListener.onTransactionClick(transactions.get(position));
+                        clickListener.onTransactionClick(rows.get(position).transaction);
                     }
                 });
             }
 
-            void bind(Transaction transaction, SimpleDateFormat dateFormat) {
-                if (transaction.getProduct() != null) {
-                    productName.setText(transaction.getProduct().getKeterangan());
-                } else {
-                    productName.setText("Unknown Product");
-                }
-
-                amount.setText(CurrencyUtils.formatToRupiah(transaction.getAmountAsInt()));
-                target.setText(transaction.getTargetId() != null ? transaction.getTargetId() : "-");
-
-                // Format status
-                String status = transaction.getStatus();
-                if (status != null) {
-                    statusBadge.setText(status.toUpperCase(Locale.ROOT));
-
-                    // Set badge color based on status
-                    int backgroundColor;
-                    if (transaction.isSuccess()) {
-                        backgroundColor = itemView.getContext().getColor(R.color.gamex_green);
-                    } else if (transaction.isFailed() || transaction.isRefund()) {
-                        backgroundColor = itemView.getContext().getColor(android.R.color.holo_red_light);
-                    } else {
-                        backgroundColor = itemView.getContext().getColor(android.R.color.holo_orange_light);
-                    }
-                    statusBadge.setBackgroundColor(backgroundColor);
-                } else {
-                    statusBadge.setText("UNKNOWN");
-                }
-
-                // Format date
-                try {
-                    SimpleDateFormat apiFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.getDefault());
-                    Date createdDate = apiFormat.parse(transaction.getCreatedAt());
-                    if (createdDate != null) {
-                        date.setText(dateFormat.format(createdDate));
-                    } else {
-                        date.setText(transaction.getCreatedAt());
-                    }
-                } catch (Exception e) {
-                    date.setText(transaction.getCreatedAt());
-                }
+            void bind(TransactionRow row) {
+                productName.setText(row.productName);
+                amount.setText(row.amount);
+                target.setText(row.target);
+                statusBadge.setText(row.status);
+                statusBadge.setBackgroundColor(row.statusColor);
+                date.setText(row.date);
             }
         }
     }
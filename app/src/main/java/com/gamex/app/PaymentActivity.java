@@ -1,6 +1,8 @@
 package com.gamex.app;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 import android.widget.ImageView;
 import android.widget.ProgressBar;
@@ -16,13 +18,34 @@ import com.gamex.app.models.DepositResponse;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class PaymentActivity extends AppCompatActivity {
 
     private static final String TAG = "PaymentActivity";
 
+    /**
+     * Paying means leaving for an e-wallet app, so checks start unhurried and thin out the
+     * longer the deposit stays pending; coming back to the screen checks at once.
+     */
+    private static final long[] POLL_INTERVALS_MS = {3_000L, 5_000L, 10_000L, 20_000L, 30_000L, 60_000L};
+    /** Automatic checks per deposit, across every time this screen is opened for it. */
+    private static final int MAX_POLLS_PER_DEPOSIT = 30;
+    private static final long FINISH_DELAY_MS = 3_000L;
+
+    /** Automatic checks already spent per deposit id, for the life of the process. */
+    private static final Map<Integer, Integer> POLLS_BY_DEPOSIT = new HashMap<>();
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
     private ApiService apiService;
+    private StatusPoller statusPoller;
     private int depositId;
     private int totalAmount;
+    /** Whether someone is watching the request in flight, so its errors are worth a toast. */
+    private boolean userWaiting;
+    private boolean statusShown;
 
     private SwipeRefreshLayout swipeRefreshLayout;
     private ProgressBar loadingIndicator;
@@ -45,7 +68,7 @@ public class PaymentActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_payment);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         depositId = getIntent().getIntExtra("DEPOSIT_ID", -1);
         totalAmount = getIntent().getIntExtra("TOTAL_AMOUNT", 0);
@@ -56,17 +79,42 @@ public class PaymentActivity extends AppCompatActivity {
             return;
         }
 
+        Integer spent = POLLS_BY_DEPOSIT.get(depositId);
+        statusPoller = new StatusPoller(POLL_INTERVALS_MS,
+            MAX_POLLS_PER_DEPOSIT - (spent != null ? spent : 0), this::sendStatusRequest);
+
         initializeViews();
         setupListeners();
-        loadPaymentStatus();
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (statusPoller != null) {
+            // Usually back from the e-wallet app: check now rather than at the next interval.
+            if (!statusPoller.resume() && !statusShown) {
+                // The screen needs its first status even when automatic checks are used up.
+                statusPoller.refreshNow();
+            }
+        }
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        if (statusPoller != null) {
+            statusPoller.pause();
+        }
     }
 
     @Override
     protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
+        mainHandler.removeCallbacksAndMessages(null);
+        if (statusPoller != null) {
+            Integer spent = POLLS_BY_DEPOSIT.get(depositId);
+            POLLS_BY_DEPOSIT.put(depositId, (spent != null ? spent : 0) + statusPoller.pollCount());
         }
+        super.onDestroy();
     }
 
     private void initializeViews() {
@@ -97,6 +145,7 @@ public class PaymentActivity extends AppCompatActivity {
         refreshButton.setOnClickListener(v -> loadPaymentStatus());
     }
 
+    /** Manual refresh; joins the automatic check if one is already running. */
     private void loadPaymentStatus() {
         if (!NetworkUtils.isNetworkAvailable(this)) {
             swipeRefreshLayout.setRefreshing(false);
@@ -107,32 +156,75 @@ public class PaymentActivity extends AppCompatActivity {
         if (!swipeRefreshLayout.isRefreshing()) {
             showLoading(true);
         }
+        userWaiting = true;
+        statusPoller.refreshNow();
+    }
+
+    /** Sent by {@link #statusPoller}. */
+    private void sendStatusRequest() {
+        if (!NetworkUtils.isNetworkAvailable(this)) {
+            swipeRefreshLayout.setRefreshing(false);
+            showLoading(false);
+            if (!statusShown && statusPoller.pollCount() == 1) {
+                // Once is enough; later checks keep retrying quietly until the network is back.
+                DialogUtils.showNoInternetDialog(this, (dialog, which) -> loadPaymentStatus());
+            }
+            statusPoller.onResult(false);
+            return;
+        }
 
-        apiService.refreshDepositStatus(this, depositId, new ApiService.DepositCallback() {
-            @Override
-            public void onSuccess(DepositResponse depositResponse) {
-                swipeRefreshLayout.setRefreshing(false);
-                showLoading(false);
-
-                if (depositResponse.getData() != null && depositResponse.getData().getDeposit() != null) {
-                    Deposit deposit = depositResponse.getData().getDeposit();
-                    updateUI(deposit, depositResponse.getData().getStatus());
-                } else {
-                    Toast.makeText(PaymentActivity.this,
-                        "Failed to load payment status",
-                        Toast.LENGTH_SHORT).show();
-                }
+        if (!statusShown) {
+            userWaiting = true;
+            if (!swipeRefreshLayout.isRefreshing()) {
+                showLoading(true);
             }
+        }
+        apiService.refreshDepositStatus(this, depositId, depositCallback);
+    }
 
-            @Override
-            public void onError(String errorMessage) {
-                swipeRefreshLayout.setRefreshing(false);
-                showLoading(false);
-                Toast.makeText(PaymentActivity.this,
-                    "Error: " + errorMessage,
-                    Toast.LENGTH_SHORT).show();
+    private final ApiService.DepositCallback depositCallback = new ApiService.DepositCallback() {
+        @Override
+        public void onSuccess(DepositResponse depositResponse) {
+            swipeRefreshLayout.setRefreshing(false);
+            showLoading(false);
+
+            if (depositResponse.getData() != null && depositResponse.getData().getDeposit() != null) {
+                Deposit deposit = depositResponse.getData().getDeposit();
+                String status = depositResponse.getData().getStatus();
+                statusShown = true;
+                userWaiting = false;
+                updateUI(deposit, status);
+                statusPoller.onResult(isTerminal(deposit, status));
+            } else {
+                showError("Failed to load payment status");
+                statusPoller.onResult(false);
             }
-        });
+        }
+
+        @Override
+        public void onError(String errorMessage, int statusCode) {
+            swipeRefreshLayout.setRefreshing(false);
+            showLoading(false);
+            showError("Error: " + errorMessage);
+            statusPoller.onResult(false);
+        }
+    };
+
+    private void showError(String message) {
+        // Background checks fail quietly and try again later.
+        if (userWaiting) {
+            userWaiting = false;
+            Toast.makeText(this, message, Toast.LENGTH_SHORT).show();
+        }
+    }
+
+    /** Mirrors {@link #updateUI}: pending wins, then success or cancelled end the deposit. */
+    private static boolean isTerminal(Deposit deposit, String status) {
+        if ("pending".equals(status) || deposit.isPending()) {
+            return false;
+        }
+        return "success".equals(status) || deposit.isSuccess()
+            || "cancelled".equals(status) || deposit.isCancelled();
     }
 
     private void updateUI(Deposit deposit, String status) {
@@ -169,12 +261,12 @@ public class PaymentActivity extends AppCompatActivity {
         instructionsCard.setVisibility(View.GONE);
         refreshButton.setVisibility(View.GONE);
 
-        new android.os.Handler().postDelayed(() -> {
+        finishAfterDelay(() -> {
             Toast.makeText(PaymentActivity.this,
                 R.string.payment_success_redirect,
                 Toast.LENGTH_SHORT).show();
             finish();
-        }, 3000);
+        });
     }
 
     private void showCancelledStatus() {
@@ -186,7 +278,13 @@ public class PaymentActivity extends AppCompatActivity {
         instructionsCard.setVisibility(View.GONE);
         refreshButton.setVisibility(View.GONE);
 
-        new android.os.Handler().postDelayed(this::finish, 3000);
+        finishAfterDelay(this::finish);
+    }
+
+    private void finishAfterDelay(Runnable finishing) {
+        // A manual refresh may report the same outcome again; finish only once.
+        mainHandler.removeCallbacksAndMessages(null);
+        mainHandler.postDelayed(finishing, FINISH_DELAY_MS);
     }
 
     private void showLoading(boolean show) {
@@ -80,7 +80,7 @@ public class PaymentMethodAdapter extends RecyclerView.Adapter<PaymentMethodAdap
         }
 
         void bind(PaymentMethod method, boolean isSelected) {
-            icon.setImageResource(method.getLogoResource());
+            ImageLoader.getInstance().load(icon, method.getLogoResource());
             name.setText(method.getName());
             description.setText(method.getDescription());
             radioButton.setChecked(isSelected);
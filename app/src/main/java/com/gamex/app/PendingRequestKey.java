@@ -0,0 +1,32 @@
+package com.gamex.app;
+
+import java.util.UUID;
+
+/**
+ * Client-generated idempotency key for one create action on a screen. The same key is
+ * handed out for as long as the user keeps submitting the same thing, across retries,
+ * double taps and network errors, so the backend can tell a repeat from a new order.
+ * Call {@link #reset()} once the server has answered; the next submit is then a new one.
+ */
+final class PendingRequestKey {
+
+    private String key;
+    private String fingerprint;
+
+    /**
+     * @param fingerprint what is being submitted, e.g. product and target id; a different
+     *                    value starts a new key
+     */
+    String keyFor(String fingerprint) {
+        if (key == null || !fingerprint.equals(this.fingerprint)) {
+            key = UUID.randomUUID().toString();
+            this.fingerprint = fingerprint;
+        }
+        return key;
+    }
+
+    void reset() {
+        key = null;
+        fingerprint = null;
+    }
+}
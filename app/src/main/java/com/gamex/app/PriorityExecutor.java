@@ -0,0 +1,67 @@
+package com.gamex.app;
+
+import android.os.Process;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread pool whose queue is ordered by {@link RequestPriority}, first come first served
+ * within a priority. Plain {@link #execute(Runnable)} counts as {@link RequestPriority#VISIBLE}.
+ * Work already running is not interrupted here; callers cancel their own prefetch calls
+ * when {@link #isSaturated()}.
+ */
+public final class PriorityExecutor extends ThreadPoolExecutor {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    PriorityExecutor(int threads, long keepAliveSeconds, ThreadFactory threadFactory) {
+        super(threads, threads, keepAliveSeconds, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), threadFactory);
+        allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        execute(command, RequestPriority.VISIBLE);
+    }
+
+    void execute(Runnable command, RequestPriority priority) {
+        super.execute(new Task(command, priority, sequence.getAndIncrement()));
+    }
+
+    /** True when every thread is busy, so anything new has to wait in the queue. */
+    boolean isSaturated() {
+        return getActiveCount() >= getMaximumPoolSize();
+    }
+
+    static final class Task implements Runnable, Comparable<Task> {
+        final RequestPriority priority;
+        private final Runnable command;
+        final long sequence;
+
+        Task(Runnable command, RequestPriority priority, long sequence) {
+            this.command = command;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Process.setThreadPriority(priority.threadPriority);
+            } catch (SecurityException | IllegalArgumentException e) {
+                // Keep whatever priority the thread has.
+            }
+            command.run();
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
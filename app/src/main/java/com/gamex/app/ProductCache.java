@@ -0,0 +1,62 @@
+package com.gamex.app;
+
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import com.gamex.app.models.ProductResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * App-scoped product lists per category, used by {@link ApiService#fetchProducts} to answer
+ * from memory and revalidate in the background once an entry is older than {@link #TTL_MS}.
+ */
+final class ProductCache {
+
+    static final long TTL_MS = 5 * 60 * 1000L;
+
+    private static final ProductCache INSTANCE = new ProductCache();
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    private ProductCache() {
+    }
+
+    static ProductCache getInstance() {
+        return INSTANCE;
+    }
+
+    @Nullable
+    synchronized Entry get(int categoryId) {
+        return entries.get(categoryId);
+    }
+
+    /**
+     * Stores a fresh response and reports whether its products differ from what was cached.
+     */
+    synchronized boolean put(int categoryId, ProductResponse response) {
+        Entry previous = entries.put(categoryId, new Entry(response, SystemClock.elapsedRealtime()));
+        return previous == null || !Objects.equals(previous.response.getProducts(), response.getProducts());
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    static final class Entry {
+        final ProductResponse response;
+        final long fetchedAt;
+
+        Entry(ProductResponse response, long fetchedAt) {
+            this.response = response;
+            this.fetchedAt = fetchedAt;
+        }
+
+        boolean isStale() {
+            return SystemClock.elapsedRealtime() - fetchedAt >= TTL_MS;
+        }
+    }
+}
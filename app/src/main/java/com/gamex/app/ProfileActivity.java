@@ -11,14 +11,13 @@ import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 
-import com.gamex.app.models.UserResponse;
+import com.gamex.app.models.User;
 import com.google.android.material.button.MaterialButton;
 
 public class ProfileActivity extends AppCompatActivity {
 
     private static final String TAG = "ProfileActivity";
 
-    private ApiService apiService;
     private TextView profileName;
     private TextView profileEmail;
 
@@ -28,8 +27,6 @@ public class ProfileActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_profile);
 
-        apiService = new ApiService();
-
         ImageView backButton = findViewById(R.id.backButton);
         backButton.setOnClickListener(v -> finish());
 
@@ -48,46 +45,53 @@ public class ProfileActivity extends AppCompatActivity {
         loadProfile();
     }
 
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
-    }
-
     private void loadProfile() {
-        if (!NetworkUtils.isNetworkAvailable(this)) {
-            profileName.setText(R.string.profile_error);
-            profileEmail.setText("");
+        UserSession session = UserSession.getInstance();
+        User cached = session.getUser();
+        if (!session.isFresh() && !NetworkUtils.isNetworkAvailable(this)) {
+            if (cached == null) {
+                profileName.setText(R.string.profile_error);
+                profileEmail.setText("");
+            }
             DialogUtils.showNoInternetDialog(this, (dialog, which) -> loadProfile());
             return;
         }
 
-        profileName.setText(R.string.profile_loading);
-        profileEmail.setText("");
+        if (cached != null) {
+            showProfile(cached);
+            if (session.isFresh()) {
+                return;
+            }
+        } else {
+            profileName.setText(R.string.profile_loading);
+            profileEmail.setText("");
+        }
 
-        apiService.fetchUserBalance(this, new ApiService.UserCallback() {
+        session.requestUser(this, this, new UserSession.Listener() {
             @Override
-            public void onSuccess(UserResponse userResponse) {
-                if (userResponse != null && userResponse.getUser() != null) {
-                    String name = userResponse.getUser().getName();
-                    String email = userResponse.getUser().getEmail();
-
-                    profileName.setText(name != null && !name.isEmpty() ? name : "User");
-                    profileEmail.setText(email != null && !email.isEmpty() ? email : "");
-                }
+            public void onUserChanged(User user) {
+                showProfile(user);
             }
 
             @Override
-            public void onError(String errorMessage) {
-                profileName.setText(R.string.profile_error);
-                profileEmail.setText("");
+            public void onUserError(String errorMessage) {
+                if (UserSession.getInstance().getUser() == null) {
+                    profileName.setText(R.string.profile_error);
+                    profileEmail.setText("");
+                }
                 Toast.makeText(ProfileActivity.this, R.string.profile_error, Toast.LENGTH_SHORT).show();
             }
         });
     }
 
+    private void showProfile(User user) {
+        String name = user.getName();
+        String email = user.getEmail();
+
+        profileName.setText(name != null && !name.isEmpty() ? name : "User");
+        profileEmail.setText(email != null && !email.isEmpty() ? email : "");
+    }
+
     private void openEditProfile() {
         Intent intent = new Intent(this, EditProfileActivity.class);
         startActivity(intent);
@@ -109,6 +113,11 @@ public class ProfileActivity extends AppCompatActivity {
 
     private void performLogout() {
         AuthManager.clearAccessToken(this);
+        UserSession.getInstance().clear();
+        // Cached account responses and order history must not outlive the session.
+        AppExecutors.diskIO().execute(HttpClientProvider::clearCache);
+        TransactionStore transactionStore = TransactionStore.getInstance(this);
+        AppExecutors.diskIO().execute(transactionStore::clear);
         Intent intent = new Intent(this, LoginActivity.class);
         intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
         startActivity(intent);
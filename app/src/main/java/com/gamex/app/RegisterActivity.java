@@ -18,16 +18,11 @@ import org.json.JSONObject;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class RegisterActivity extends AppCompatActivity {
 
-    private static final String REGISTER_URL = "http://api.amazon.web.id/api/auth/register";
     private static final String TAG = "RegisterActivity";
 
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
-
     private EditText nameInput;
     private EditText emailInput;
     private EditText passwordInput;
@@ -45,12 +40,9 @@ public class RegisterActivity extends AppCompatActivity {
         registerButton = findViewById(R.id.registerSubmitButton);
 
         registerButton.setOnClickListener(v -> handleRegister());
-    }
 
-    @Override
-    protected void onDestroy() {
-        super.onDestroy();
-        executor.shutdownNow();
+        // Warm up DNS, TCP and TLS while the user fills in the form.
+        HttpClientProvider.preconnect();
     }
 
     private void handleRegister() {
@@ -90,14 +82,14 @@ public class RegisterActivity extends AppCompatActivity {
 
         setLoading(true);
 
-        executor.execute(() -> {
+        AppExecutors.networkIO().execute(() -> {
             try {
                 JSONObject requestBody = new JSONObject();
                 requestBody.put("email", email);
                 requestBody.put("password", password);
                 requestBody.put("name", name);
 
-                ApiClient.ApiResponse response = ApiClient.postJson(REGISTER_URL, requestBody);
+                ApiClient.ApiResponse response = ApiClient.postJson(ApiConfig.getRegisterEndpoint(), requestBody);
                 if (isSuccess(response.statusCode)) {
                     handleRegisterSuccess(response.body);
                 } else {
@@ -110,7 +102,7 @@ public class RegisterActivity extends AppCompatActivity {
             } finally {
                 runOnUiThread(() -> setLoading(false));
             }
-        });
+        }, RequestPriority.INTERACTIVE);
     }
 
     private void handleRegisterSuccess(String body) {
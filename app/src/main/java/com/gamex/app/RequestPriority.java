@@ -0,0 +1,22 @@
+package com.gamex.app;
+
+import android.os.Process;
+
+/**
+ * How urgently a network task should run. {@link PriorityExecutor} starts queued tasks in
+ * declaration order and runs each at its thread priority.
+ */
+public enum RequestPriority {
+    /** A mutation the user is waiting on: purchase, deposit, admin edits. */
+    INTERACTIVE(Process.THREAD_PRIORITY_DEFAULT + Process.THREAD_PRIORITY_MORE_FAVORABLE),
+    /** Data for the screen on display. */
+    VISIBLE(Process.THREAD_PRIORITY_DEFAULT),
+    /** Refreshes nobody is looking at yet; may be cancelled to make room. */
+    PREFETCH(Process.THREAD_PRIORITY_BACKGROUND);
+
+    final int threadPriority;
+
+    RequestPriority(int threadPriority) {
+        this.threadPriority = threadPriority;
+    }
+}
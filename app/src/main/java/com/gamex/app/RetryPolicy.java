@@ -0,0 +1,87 @@
+package com.gamex.app;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Random;
+
+import javax.net.ssl.SSLPeerUnverifiedException;
+
+import okhttp3.Call;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Re-sends a request after connection-level failures (refused, reset, dropped mid-request,
+ * timed out), waiting an exponentially growing, jittered delay between attempts. HTTP error
+ * responses are returned as-is; the server saw the request and answered.
+ *
+ * <p>Only use this for requests that are safe to send twice: GETs, or creates carrying an
+ * {@link #IDEMPOTENCY_HEADER} the backend dedupes on.
+ */
+final class RetryPolicy {
+
+    static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+
+    /** Purchases and deposits: three attempts within roughly two seconds of backoff. */
+    static final RetryPolicy CREATE = new RetryPolicy(3, 400L, 3_000L);
+
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    RetryPolicy(int maxAttempts, long baseDelayMs, long maxDelayMs) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    Response execute(Call.Factory client, Request request) throws IOException {
+        return execute(client, request, Thread::sleep, new Random());
+    }
+
+    Response execute(Call.Factory client, Request request, Sleeper sleeper, Random random) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            Call call = client.newCall(request);
+            try {
+                return call.execute();
+            } catch (IOException e) {
+                if (attempt >= maxAttempts || call.isCanceled() || !isRetryable(e)) {
+                    throw e;
+                }
+                try {
+                    sleeper.sleep(delayMillis(attempt, random));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * "Equal jitter": half of the capped exponential delay is fixed, the other half random,
+     * so retries from many clients spread out but never fire immediately.
+     *
+     * @param retry 1 for the wait before the second attempt, 2 before the third, ...
+     */
+    long delayMillis(int retry, Random random) {
+        long ceiling = baseDelayMs << Math.min(retry - 1, 20);
+        long capped = Math.min(maxDelayMs, ceiling);
+        long half = capped / 2;
+        return half + (long) (random.nextDouble() * (capped - half));
+    }
+
+    static boolean isRetryable(IOException e) {
+        if (e instanceof SSLPeerUnverifiedException) {
+            // A certificate problem will not go away by asking again.
+            return false;
+        }
+        // A plain InterruptedIOException is a cancelled call; timeouts are worth another go.
+        return !(e instanceof InterruptedIOException) || e instanceof SocketTimeoutException;
+    }
+}
@@ -0,0 +1,143 @@
+package com.gamex.app;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.os.Handler;
+import android.os.Looper;
+
+import com.gamex.app.models.Transaction;
+import com.gamex.app.models.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds list rows from API models on {@link AppExecutors#background()} and hands them
+ * back on the main thread, so adapters only copy prepared values into views.
+ */
+final class RowMapper {
+
+    interface Callback<R> {
+        void onMapped(List<R> rows);
+    }
+
+    private interface Mapper<T, R> {
+        R map(T item);
+    }
+
+    private static final Handler MAIN = new Handler(Looper.getMainLooper());
+
+    private RowMapper() {
+        // Utility class.
+    }
+
+    /** Rows for the admin transaction list. */
+    static void mapTransactions(Context context, List<Transaction> transactions,
+                                Callback<TransactionRow> callback) {
+        Context app = context.getApplicationContext();
+        submit(transactions, transaction -> toTransactionRow(app, transaction), callback);
+    }
+
+    /** Rows for the signed-in user's order history. */
+    static void mapOrders(Context context, List<Transaction> transactions,
+                          Callback<TransactionRow> callback) {
+        Context app = context.getApplicationContext();
+        submit(transactions, transaction -> toOrderRow(app, transaction), callback);
+    }
+
+    static void mapUsers(Context context, List<User> users, Callback<UserRow> callback) {
+        Context app = context.getApplicationContext();
+        ColorStateList adminColor = ColorStateList.valueOf(app.getColor(R.color.gamex_green));
+        ColorStateList userColor = ColorStateList.valueOf(app.getColor(android.R.color.darker_gray));
+        String adminLabel = app.getString(R.string.manage_users_role_admin);
+        String userLabel = app.getString(R.string.manage_users_role_user);
+        submit(users, user -> {
+            boolean admin = "admin".equals(user.getRole());
+            return new UserRow(
+                    user,
+                    user.getName(),
+                    user.getEmail(),
+                    CurrencyUtils.formatToRupiah(user.getBalance()),
+                    admin ? adminLabel : userLabel,
+                    admin ? adminColor : userColor);
+        }, callback);
+    }
+
+    private static <T, R> void submit(List<T> source, Mapper<T, R> mapper, Callback<R> callback) {
+        List<T> items = source != null ? new ArrayList<>(source) : Collections.emptyList();
+        AppExecutors.background().execute(() -> {
+            List<R> rows = new ArrayList<>(items.size());
+            for (T item : items) {
+                rows.add(mapper.map(item));
+            }
+            MAIN.post(() -> callback.onMapped(rows));
+        });
+    }
+
+    private static TransactionRow toTransactionRow(Context context, Transaction transaction) {
+        String productName = transaction.getProduct() != null
+                ? transaction.getProduct().getNama()
+                : "Unknown Product";
+
+        String statusText;
+        int statusColor;
+        if (transaction.isPending()) {
+            statusText = context.getString(R.string.transaction_item_status_pending);
+            statusColor = context.getColor(R.color.gamex_text_secondary);
+        } else if (transaction.isPaid()) {
+            statusText = context.getString(R.string.transaction_item_status_paid);
+            statusColor = context.getColor(R.color.gamex_green);
+        } else if (transaction.isProcess()) {
+            statusText = context.getString(R.string.transaction_item_status_process);
+            statusColor = context.getColor(R.color.gamex_green);
+        } else if (transaction.isSuccess()) {
+            statusText = context.getString(R.string.transaction_item_status_success);
+            statusColor = context.getColor(R.color.gamex_green);
+        } else if (transaction.isFailed()) {
+            statusText = context.getString(R.string.transaction_item_status_failed);
+            statusColor = context.getColor(android.R.color.holo_red_dark);
+        } else if (transaction.isRefund()) {
+            statusText = context.getString(R.string.transaction_item_status_refund);
+            statusColor = context.getColor(android.R.color.holo_orange_dark);
+        } else {
+            statusText = transaction.getStatus();
+            statusColor = context.getColor(R.color.gamex_text_secondary);
+        }
+
+        return new TransactionRow(
+                transaction,
+                productName,
+                transaction.getTargetId(),
+                CurrencyUtils.formatToRupiah(transaction.getAmount()),
+                DateUtils.formatDate(transaction.getCreatedAt()),
+                statusText,
+                statusColor);
+    }
+
+    private static TransactionRow toOrderRow(Context context, Transaction transaction) {
+        String productName = transaction.getProduct() != null
+                ? transaction.getProduct().getKeterangan()
+                : "Unknown Product";
+
+        String status = transaction.getStatus();
+        int backgroundColor;
+        if (transaction.isSuccess()) {
+            backgroundColor = context.getColor(R.color.gamex_green);
+        } else if (transaction.isFailed() || transaction.isRefund()) {
+            backgroundColor = context.getColor(android.R.color.holo_red_light);
+        } else {
+            backgroundColor = context.getColor(android.R.color.holo_orange_light);
+        }
+
+        return new TransactionRow(
+                transaction,
+                productName,
+                transaction.getTargetId() != null ? transaction.getTargetId() : "-",
+                CurrencyUtils.formatToRupiah(transaction.getAmount()),
+                DateUtils.formatDate(transaction.getCreatedAt()),
+                status != null ? status.toUpperCase(Locale.ROOT) : "UNKNOWN",
+                backgroundColor);
+    }
+}
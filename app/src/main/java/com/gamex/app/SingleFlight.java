@@ -0,0 +1,59 @@
+package com.gamex.app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collapses identical in-flight requests. The first caller for a key gets {@code true} from
+ * {@link #join(String, Object)} and runs the request; callers that join before it finishes
+ * are parked. The runner then {@link #finish(String) finishes} the key and delivers the one
+ * result to every parked callback.
+ *
+ * @param <C> callback type handed the result
+ */
+final class SingleFlight<C> {
+
+    private final Map<String, List<C>> waiting = new HashMap<>();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    /**
+     * @return true if the caller must run the request and later call {@link #finish(String)}
+     */
+    synchronized boolean join(String key, C callback) {
+        List<C> callbacks = waiting.get(key);
+        if (callbacks != null) {
+            callbacks.add(callback);
+            collapsed.incrementAndGet();
+            return false;
+        }
+        callbacks = new ArrayList<>(2);
+        callbacks.add(callback);
+        waiting.put(key, callbacks);
+        started.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Closes the key, so the next {@link #join(String, Object)} starts a new request, and
+     * returns every callback waiting on it, the runner's first.
+     */
+    synchronized List<C> finish(String key) {
+        List<C> callbacks = waiting.remove(key);
+        return callbacks != null ? callbacks : Collections.emptyList();
+    }
+
+    /** Requests that actually went out. */
+    long startedCount() {
+        return started.get();
+    }
+
+    /** Calls that were answered by another caller's request. */
+    long collapsedCount() {
+        return collapsed.get();
+    }
+}
@@ -0,0 +1,142 @@
+package com.gamex.app;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Re-checks the status of something the server is still working on, waiting longer between
+ * checks the longer it takes: {@code intervalsMs[0]} after the first answer, then the next
+ * interval, staying on the last one. Stops for good at a terminal status, and for automatic
+ * checks once {@code maxPolls} have been sent.
+ *
+ * <p>Only one request is ever in flight: a manual refresh while a poll is running joins it
+ * instead of sending another. Polling runs between {@link #resume()} and {@link #pause()},
+ * which should follow the screen's onResume and onPause. Main thread only.
+ */
+final class StatusPoller {
+
+    /** Sends one status request; its outcome must be reported to {@link #onResult}. */
+    interface Request {
+        void send();
+    }
+
+    interface Scheduler {
+        void schedule(Runnable task, long delayMs);
+        void cancel(Runnable task);
+    }
+
+    private final long[] intervalsMs;
+    private final int maxPolls;
+    private final Request request;
+    private final Scheduler scheduler;
+    private final Runnable tick = this::poll;
+
+    private int step;
+    private int polls;
+    private boolean inFlight;
+    private boolean resumed;
+    private boolean finished;
+
+    StatusPoller(long[] intervalsMs, int maxPolls, Request request) {
+        this(intervalsMs, maxPolls, request, new MainThreadScheduler());
+    }
+
+    StatusPoller(long[] intervalsMs, int maxPolls, Request request, Scheduler scheduler) {
+        this.intervalsMs = intervalsMs.clone();
+        this.maxPolls = maxPolls;
+        this.request = request;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Polls right away, unless a request is running or polling is over.
+     *
+     * @return whether a request was sent
+     */
+    boolean resume() {
+        resumed = true;
+        return poll();
+    }
+
+    /** Cancels the next scheduled poll; a request already sent still reports back. */
+    void pause() {
+        resumed = false;
+        scheduler.cancel(tick);
+    }
+
+    /**
+     * A user-requested check. Does not count towards {@code maxPolls} and works after
+     * polling has finished.
+     *
+     * @return false if it joined the request already in flight
+     */
+    boolean refreshNow() {
+        if (inFlight) {
+            return false;
+        }
+        scheduler.cancel(tick);
+        send();
+        return true;
+    }
+
+    /**
+     * Reports the outcome of the request in flight.
+     *
+     * @param terminal whether the status can no longer change; failed requests are not
+     */
+    void onResult(boolean terminal) {
+        inFlight = false;
+        if (terminal) {
+            finished = true;
+            scheduler.cancel(tick);
+            return;
+        }
+        scheduleNext();
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    int pollCount() {
+        return polls;
+    }
+
+    private boolean poll() {
+        if (inFlight || finished || polls >= maxPolls) {
+            return false;
+        }
+        polls++;
+        send();
+        return true;
+    }
+
+    private void send() {
+        inFlight = true;
+        request.send();
+    }
+
+    private void scheduleNext() {
+        scheduler.cancel(tick);
+        if (!resumed || finished || polls >= maxPolls) {
+            return;
+        }
+        long delay = intervalsMs[Math.min(step, intervalsMs.length - 1)];
+        step++;
+        scheduler.schedule(tick, delay);
+    }
+
+    private static final class MainThreadScheduler implements Scheduler {
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void schedule(Runnable task, long delayMs) {
+            handler.postDelayed(task, delayMs);
+        }
+
+        @Override
+        public void cancel(Runnable task) {
+            handler.removeCallbacks(task);
+        }
+    }
+}
@@ -17,7 +17,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.gamex.app.models.DepositResponse;
 import com.gamex.app.models.PaymentMethod;
-import com.gamex.app.models.UserResponse;
+import com.gamex.app.models.User;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
 
@@ -34,6 +34,22 @@ public class TopupActivity extends AppCompatActivity {
     private PaymentMethodAdapter paymentMethodAdapter;
     private MaterialButton submitButton;
     private ProgressDialog loadingDialog;
+    private final PendingRequestKey depositKey = new PendingRequestKey();
+
+    private final UserSession.Listener sessionListener = new UserSession.Listener() {
+        @Override
+        public void onUserChanged(User user) {
+            currentBalanceAmount.setText(CurrencyUtils.formatToRupiah(user.getBalance()));
+        }
+
+        @Override
+        public void onUserError(String errorMessage) {
+            if (UserSession.getInstance().getUser() == null) {
+                currentBalanceAmount.setText(R.string.home_balance_error);
+                Toast.makeText(TopupActivity.this, R.string.home_balance_error_toast, Toast.LENGTH_SHORT).show();
+            }
+        }
+    };
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -41,7 +57,7 @@ public class TopupActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_topup);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         ImageView backButton = findViewById(R.id.backButton);
         backButton.setOnClickListener(v -> finish());
@@ -64,39 +80,35 @@ public class TopupActivity extends AppCompatActivity {
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
+        UserSession.getInstance().removeListener(sessionListener);
         if (loadingDialog != null && loadingDialog.isShowing()) {
             loadingDialog.dismiss();
         }
     }
 
     private void loadBalance() {
-        if (!NetworkUtils.isNetworkAvailable(this)) {
-            showNoInternetDialog();
-            currentBalanceAmount.setText(R.string.home_balance_error);
+        UserSession session = UserSession.getInstance();
+        session.addListener(sessionListener);
+        User cached = session.getUser();
+        if (cached != null) {
+            sessionListener.onUserChanged(cached);
+        }
+        if (session.isFresh()) {
             return;
         }
 
-        currentBalanceAmount.setText(R.string.home_balance_loading);
-
-        apiService.fetchUserBalance(this, new ApiService.UserCallback() {
-            @Override
-            public void onSuccess(UserResponse userResponse) {
-                if (userResponse != null && userResponse.getUser() != null) {
-                    int balance = userResponse.getUser().getBalanceAsInt();
-                    String formattedBalance = CurrencyUtils.formatToRupiah(balance);
-                    currentBalanceAmount.setText(formattedBalance);
-                }
-            }
-
-            @Override
-            public void onError(String errorMessage) {
+        if (!NetworkUtils.isNetworkAvailable(this)) {
+            showNoInternetDialog();
+            if (cached == null) {
                 currentBalanceAmount.setText(R.string.home_balance_error);
-                Toast.makeText(TopupActivity.this, R.string.home_balance_error_toast, Toast.LENGTH_SHORT).show();
             }
-        });
+            return;
+        }
+
+        if (cached == null) {
+            currentBalanceAmount.setText(R.string.home_balance_loading);
+        }
+        session.refresh(this);
     }
 
     private void loadPaymentMethods() {
@@ -179,10 +191,13 @@ public class TopupActivity extends AppCompatActivity {
 
         showLoadingDialog();
 
-        apiService.createDeposit(this, amount, new ApiService.DepositCallback() {
+        // Resubmitting the same amount after a failure reuses the key, so it is never charged twice.
+        String idempotencyKey = depositKey.keyFor(String.valueOf(amount));
+        apiService.createDeposit(this, amount, idempotencyKey, new ApiService.DepositCallback() {
             @Override
             public void onSuccess(DepositResponse depositResponse) {
                 hideLoadingDialog();
+                depositKey.reset();
 
                 if (depositResponse.isSuccess() && depositResponse.getData() != null &&
                     depositResponse.getData().getDeposit() != null) {
@@ -204,7 +219,11 @@ public class TopupActivity extends AppCompatActivity {
             }
 
             @Override
-            public void onError(String errorMessage) {
+            public void onError(String errorMessage, int statusCode) {
+                if (statusCode != -1) {
+                    // The server answered, so it did not take this deposit; a retry is a new one.
+                    depositKey.reset();
+                }
                 hideLoadingDialog();
                 Toast.makeText(TopupActivity.this,
                     "Error: " + errorMessage,
@@ -8,17 +8,16 @@ import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.gamex.app.models.Transaction;
-
 import java.util.ArrayList;
 import java.util.List;
 
 public class TransactionAdapter extends RecyclerView.Adapter<TransactionAdapter.ViewHolder> {
 
-    private List<Transaction> transactions = new ArrayList<>();
+    private List<TransactionRow> rows = new ArrayList<>();
 
-    public void setTransactions(List<Transaction> transactions) {
-        this.transactions = transactions != null ? transactions : new ArrayList<>();
+    /** Rows come from {@link RowMapper#mapTransactions}. */
+    void setRows(List<TransactionRow> rows) {
+        this.rows = rows != null ? rows : new ArrayList<>();
         notifyDataSetChanged();
     }
 
@@ -32,13 +31,12 @@ public class TransactionAdapter extends RecyclerView.Adapter<TransactionAdapter.
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Transaction transaction = transactions.get(position);
-        holder.bind(transaction);
+        holder.bind(rows.get(position));
     }
 
     @Override
     public int getItemCount() {
-        return transactions.size();
+        return rows.size();
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -57,45 +55,13 @@ public class TransactionAdapter extends RecyclerView.Adapter<TransactionAdapter.
             createdAt = itemView.findViewById(R.id.transactionDate);
         }
 
-        public void bind(Transaction transaction) {
-            if (transaction.getProduct() != null) {
-                productName.setText(transaction.getProduct().getNama());
-            } else {
-                productName.setText("Unknown Product");
-            }
-
-            targetId.setText(transaction.getTargetId());
-            amount.setText(CurrencyUtils.formatToRupiah(transaction.getAmountAsInt()));
-            createdAt.setText(DateUtils.formatDate(transaction.getCreatedAt()));
-
-            // Status text and color
-            String statusText;
-            int statusColor;
-            if (transaction.isPending()) {
-                statusText = itemView.getContext().getString(R.string.transaction_item_status_pending);
-                statusColor = itemView.getContext().getColor(R.color.gamex_text_secondary);
-            } else if (transaction.isPaid()) {
-                statusText = itemView.getContext().getString(R.string.transaction_item_status_paid);
-                statusColor = itemView.getContext().getColor(R.color.gamex_green);
-            } else if (transaction.isProcess()) {
-                statusText = itemView.getContext().getString(R.string.transaction_item_status_process);
-                statusColor = itemView.getContext().getColor(R.color.gamex_green);
-            } else if (transaction.isSuccess()) {
-                statusText = itemView.getContext().getString(R.string.transaction_item_status_success);
-                statusColor = itemView.getContext().getColor(R.color.gamex_green);
-            } else if (transaction.isFailed()) {
-                statusText = itemView.getContext().getString(R.string.transaction_item_status_failed);
-                statusColor = itemView.getContext().getColor(android.R.color.holo_red_dark);
-            } else if (transaction.isRefund()) {
-                statusText = itemView.getContext().getString(R.string.transaction_item_status_refund);
-                statusColor = itemView.getContext().getColor(android.R.color.holo_orange_dark);
-            } else {
-                statusText = transaction.getStatus();
-                statusColor = itemView.getContext().getColor(R.color.gamex_text_secondary);
-            }
-
-            status.setText(statusText);
-            status.setTextColor(statusColor);
+        public void bind(TransactionRow row) {
+            productName.setText(row.productName);
+            targetId.setText(row.target);
+            amount.setText(row.amount);
+            createdAt.setText(row.date);
+            status.setText(row.status);
+            status.setTextColor(row.statusColor);
         }
     }
 }
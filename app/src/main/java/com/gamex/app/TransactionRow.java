@@ -0,0 +1,28 @@
+package com.gamex.app;
+
+import com.gamex.app.models.Transaction;
+
+/**
+ * A transaction with every display string and color already resolved, built off the main
+ * thread by {@link RowMapper}.
+ */
+final class TransactionRow {
+    final Transaction transaction;
+    final String productName;
+    final String target;
+    final String amount;
+    final String date;
+    final String status;
+    final int statusColor;
+
+    TransactionRow(Transaction transaction, String productName, String target, String amount,
+                   String date, String status, int statusColor) {
+        this.transaction = transaction;
+        this.productName = productName;
+        this.target = target;
+        this.amount = amount;
+        this.date = date;
+        this.status = status;
+        this.statusColor = statusColor;
+    }
+}
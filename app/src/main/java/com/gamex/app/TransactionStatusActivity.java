@@ -1,6 +1,8 @@
 package com.gamex.app;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 import android.widget.ImageView;
 import android.widget.ProgressBar;
@@ -20,8 +22,21 @@ public class TransactionStatusActivity extends AppCompatActivity {
 
     private static final String TAG = "TransactionStatusActivity";
 
+    /** Waits between status checks while the order is still in progress. */
+    private static final long[] POLL_INTERVALS_MS = {1_000L, 2_000L, 5_000L, 15_000L};
+    /** About ten minutes of automatic checks; after that only a manual refresh asks again. */
+    private static final int MAX_POLLS = 40;
+    private static final long FINISH_DELAY_MS = 3_000L;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
     private ApiService apiService;
+    private StatusPoller statusPoller;
     private int transactionId;
+    /** Whether the status has been shown once; until then checks read it instead of refreshing it. */
+    private boolean statusLoaded;
+    /** Whether someone is watching the request in flight, so its errors are worth a toast. */
+    private boolean userWaiting;
 
     private SwipeRefreshLayout swipeRefreshLayout;
     private ProgressBar loadingIndicator;
@@ -43,7 +58,7 @@ public class TransactionStatusActivity extends AppCompatActivity {
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_transaction_status);
 
-        apiService = new ApiService();
+        apiService = new ApiService(this);
 
         transactionId = getIntent().getIntExtra("TRANSACTION_ID", -1);
 
@@ -53,17 +68,33 @@ public class TransactionStatusActivity extends AppCompatActivity {
             return;
         }
 
+        statusPoller = new StatusPoller(POLL_INTERVALS_MS, MAX_POLLS, this::sendStatusRequest);
+
         initializeViews();
         setupListeners();
-        loadTransactionStatus();
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (statusPoller != null) {
+            // The first resume loads the status; later ones catch up after time away.
+            statusPoller.resume();
+        }
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        if (statusPoller != null) {
+            statusPoller.pause();
+        }
     }
 
     @Override
     protected void onDestroy() {
+        mainHandler.removeCallbacksAndMessages(null);
         super.onDestroy();
-        if (apiService != null) {
-            apiService.shutdown();
-        }
     }
 
     private void initializeViews() {
@@ -93,80 +124,85 @@ public class TransactionStatusActivity extends AppCompatActivity {
         refreshButton.setOnClickListener(v -> refreshTransactionStatus());
     }
 
-    private void loadTransactionStatus() {
+    /** Manual refresh; joins the automatic check if one is already running. */
+    private void refreshTransactionStatus() {
         if (!NetworkUtils.isNetworkAvailable(this)) {
             swipeRefreshLayout.setRefreshing(false);
-            DialogUtils.showNoInternetDialog(this, (dialog, which) -> loadTransactionStatus());
+            DialogUtils.showNoInternetDialog(this, (dialog, which) -> refreshTransactionStatus());
             return;
         }
 
         if (!swipeRefreshLayout.isRefreshing()) {
             showLoading(true);
         }
+        userWaiting = true;
+        statusPoller.refreshNow();
+    }
 
-        apiService.fetchTransactionStatus(this, transactionId, new ApiService.TransactionStatusCallback() {
-            @Override
-            public void onSuccess(TransactionStatusResponse transactionStatusResponse) {
-                swipeRefreshLayout.setRefreshing(false);
-                showLoading(false);
-
-                if (transactionStatusResponse.getTransaction() != null) {
-                    Transaction transaction = transactionStatusResponse.getTransaction();
-                    updateUI(transaction);
-                } else {
-                    Toast.makeText(TransactionStatusActivity.this,
-                        "Failed to load transaction status",
-                        Toast.LENGTH_SHORT).show();
-                }
+    /**
+     * Sent by {@link #statusPoller}. The first request reads the stored status; later ones
+     * ask the backend to re-check it with the provider.
+     */
+    private void sendStatusRequest() {
+        if (!NetworkUtils.isNetworkAvailable(this)) {
+            swipeRefreshLayout.setRefreshing(false);
+            showLoading(false);
+            if (!statusLoaded && statusPoller.pollCount() == 1) {
+                // Once is enough; later checks keep retrying quietly until the network is back.
+                DialogUtils.showNoInternetDialog(this, (dialog, which) -> refreshTransactionStatus());
             }
+            statusPoller.onResult(false);
+            return;
+        }
 
-            @Override
-            public void onError(String errorMessage) {
-                swipeRefreshLayout.setRefreshing(false);
-                showLoading(false);
-                Toast.makeText(TransactionStatusActivity.this,
-                    "Error: " + errorMessage,
-                    Toast.LENGTH_SHORT).show();
+        if (!statusLoaded) {
+            userWaiting = true;
+            if (!swipeRefreshLayout.isRefreshing()) {
+                showLoading(true);
             }
-        });
+            apiService.fetchTransactionStatus(this, transactionId, statusCallback);
+        } else {
+            apiService.refreshTransactionStatus(this, transactionId, statusCallback);
+        }
     }
 
-    private void refreshTransactionStatus() {
-        if (!NetworkUtils.isNetworkAvailable(this)) {
+    private final ApiService.TransactionStatusCallback statusCallback = new ApiService.TransactionStatusCallback() {
+        @Override
+        public void onSuccess(TransactionStatusResponse transactionStatusResponse) {
             swipeRefreshLayout.setRefreshing(false);
-            DialogUtils.showNoInternetDialog(this, (dialog, which) -> refreshTransactionStatus());
-            return;
+            showLoading(false);
+
+            Transaction transaction = transactionStatusResponse.getTransaction();
+            if (transaction != null) {
+                statusLoaded = true;
+                userWaiting = false;
+                updateUI(transaction);
+                statusPoller.onResult(isTerminal(transaction.getStatus()));
+            } else {
+                showError("Failed to load transaction status");
+                statusPoller.onResult(false);
+            }
         }
 
-        if (!swipeRefreshLayout.isRefreshing()) {
-            showLoading(true);
+        @Override
+        public void onError(String errorMessage) {
+            swipeRefreshLayout.setRefreshing(false);
+            showLoading(false);
+            showError("Error: " + errorMessage);
+            statusPoller.onResult(false);
         }
+    };
 
-        apiService.refreshTransactionStatus(this, transactionId, new ApiService.TransactionStatusCallback() {
-            @Override
-            public void onSuccess(TransactionStatusResponse transactionStatusResponse) {
-                swipeRefreshLayout.setRefreshing(false);
-                showLoading(false);
-
-                if (transactionStatusResponse.getTransaction() != null) {
-                    Transaction transaction = transactionStatusResponse.getTransaction();
-                    updateUI(transaction);
-                } else {
-                    Toast.makeText(TransactionStatusActivity.this,
-                        "Failed to refresh transaction status",
-                        Toast.LENGTH_SHORT).show();
-                }
-            }
+    private void showError(String message) {
+        // Background checks fail quietly and try again later.
+        if (userWaiting) {
+            userWaiting = false;
+            Toast.makeText(this, message, Toast.LENGTH_SHORT).show();
+        }
+    }
 
-            @Override
-            public void onError(String errorMessage) {
-                swipeRefreshLayout.setRefreshing(false);
-                showLoading(false);
-                Toast.makeText(TransactionStatusActivity.this,
-                    "Error: " + errorMessage,
-                    Toast.LENGTH_SHORT).show();
-            }
-        });
+    private static boolean isTerminal(String status) {
+        return "success".equals(status) || "failed".equals(status) || "refund".equals(status);
     }
 
     private void updateUI(Transaction transaction) {
@@ -177,7 +213,7 @@ public class TransactionStatusActivity extends AppCompatActivity {
             productName.setText("-");
         }
 
-        transactionAmount.setText(CurrencyUtils.formatToRupiah(transaction.getAmountAsInt()));
+        transactionAmount.setText(CurrencyUtils.formatToRupiah(transaction.getAmount()));
         targetId.setText(transaction.getTargetId() != null ? transaction.getTargetId() : "-");
         providerTrxId.setText(transaction.getProviderTrxId() != null ? transaction.getProviderTrxId() : "-");
 
@@ -237,12 +273,12 @@ public class TransactionStatusActivity extends AppCompatActivity {
         statusText.setTextColor(getResources().getColor(R.color.gamex_green, null));
         refreshButton.setVisibility(View.GONE);
 
-        new android.os.Handler().postDelayed(() -> {
+        finishAfterDelay(() -> {
             Toast.makeText(TransactionStatusActivity.this,
                 "Transaction successful! Redirecting...",
                 Toast.LENGTH_SHORT).show();
             finish();
-        }, 3000);
+        });
     }
 
     private void showFailedStatus() {
@@ -251,7 +287,7 @@ public class TransactionStatusActivity extends AppCompatActivity {
         statusText.setTextColor(getResources().getColor(android.R.color.holo_red_light, null));
         refreshButton.setVisibility(View.GONE);
 
-        new android.os.Handler().postDelayed(this::finish, 3000);
+        finishAfterDelay(this::finish);
     }
 
     private void showRefundStatus() {
@@ -260,7 +296,13 @@ public class TransactionStatusActivity extends AppCompatActivity {
         statusText.setTextColor(getResources().getColor(android.R.color.holo_orange_light, null));
         refreshButton.setVisibility(View.GONE);
 
-        new android.os.Handler().postDelayed(this::finish, 3000);
+        finishAfterDelay(this::finish);
+    }
+
+    private void finishAfterDelay(Runnable finishing) {
+        // A manual refresh may report the same outcome again; finish only once.
+        mainHandler.removeCallbacksAndMessages(null);
+        mainHandler.postDelayed(finishing, FINISH_DELAY_MS);
     }
 
     private void showUnknownStatus(String status) {
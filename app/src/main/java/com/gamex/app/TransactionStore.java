@@ -0,0 +1,126 @@
+package com.gamex.app;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+import androidx.annotation.Nullable;
+
+import com.gamex.app.models.Transaction;
+import com.google.gson.Gson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The signed-in user's order history on disk, one row per transaction id, so the orders
+ * screen can draw before the network answers and a sync only has to fetch what changed
+ * since {@link #syncCursor()}. Each row keeps the transaction as JSON next to the columns
+ * used for ordering and the cursor.
+ *
+ * <p>Every method does disk I/O; call them on {@link AppExecutors#diskIO()}.
+ */
+final class TransactionStore extends SQLiteOpenHelper {
+
+    private static final String DATABASE_NAME = "transactions.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final String TABLE = "transactions";
+    private static final String COLUMN_ID = "id";
+    private static final String COLUMN_CREATED_AT = "created_at";
+    private static final String COLUMN_UPDATED_AT = "updated_at";
+    private static final String COLUMN_JSON = "json";
+
+    private static TransactionStore instance;
+
+    private final Gson gson;
+
+    private TransactionStore(Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        this.gson = HttpClientProvider.getGson();
+    }
+
+    static synchronized TransactionStore getInstance(Context context) {
+        if (instance == null) {
+            instance = new TransactionStore(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE + " ("
+                + COLUMN_ID + " INTEGER PRIMARY KEY, "
+                + COLUMN_CREATED_AT + " TEXT, "
+                + COLUMN_UPDATED_AT + " TEXT, "
+                + COLUMN_JSON + " TEXT NOT NULL)");
+        db.execSQL("CREATE INDEX " + TABLE + "_" + COLUMN_UPDATED_AT
+                + " ON " + TABLE + " (" + COLUMN_UPDATED_AT + ")");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // A cache of server data: start over and let the next sync refill it.
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+        onCreate(db);
+    }
+
+    /** Newest first, as the server lists them. */
+    List<Transaction> loadAll() {
+        List<Transaction> transactions = new ArrayList<>();
+        try (Cursor cursor = getReadableDatabase().query(TABLE, new String[] {COLUMN_JSON},
+                null, null, null, null, COLUMN_CREATED_AT + " DESC, " + COLUMN_ID + " DESC")) {
+            while (cursor.moveToNext()) {
+                transactions.add(gson.fromJson(cursor.getString(0), Transaction.class));
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Inserts new transactions and replaces the stored copy of known ones.
+     *
+     * @return whether anything was written
+     */
+    boolean upsert(List<Transaction> transactions) {
+        if (transactions == null || transactions.isEmpty()) {
+            return false;
+        }
+        SQLiteDatabase db = getWritableDatabase();
+        db.beginTransaction();
+        try {
+            ContentValues values = new ContentValues();
+            for (Transaction transaction : transactions) {
+                values.clear();
+                values.put(COLUMN_ID, transaction.getId());
+                values.put(COLUMN_CREATED_AT, transaction.getCreatedAt());
+                values.put(COLUMN_UPDATED_AT, transaction.getUpdatedAt());
+                values.put(COLUMN_JSON, gson.toJson(transaction, Transaction.class));
+                db.insertWithOnConflict(TABLE, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return true;
+    }
+
+    /**
+     * The latest {@code updated_at} stored, which the next sync asks the server to go
+     * past; null while the store is empty, meaning a full fetch.
+     */
+    @Nullable
+    String syncCursor() {
+        try (Cursor cursor = getReadableDatabase().rawQuery(
+                "SELECT MAX(" + COLUMN_UPDATED_AT + ") FROM " + TABLE, null)) {
+            return cursor.moveToFirst() && !cursor.isNull(0) ? cursor.getString(0) : null;
+        }
+    }
+
+    /** Forgets every stored transaction; the history belongs to the account that logged out. */
+    void clear() {
+        getWritableDatabase().delete(TABLE, null, null);
+    }
+}
@@ -16,7 +16,7 @@ import java.util.List;
 
 public class UserAdapter extends RecyclerView.Adapter<UserAdapter.ViewHolder> {
 
-    private List<User> users = new ArrayList<>();
+    private List<UserRow> rows = new ArrayList<>();
     private OnUserClickListener listener;
 
     public interface OnUserClickListener {
@@ -27,8 +27,9 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.ViewHolder> {
         this.listener = listener;
     }
 
-    public void setUsers(List<User> users) {
-        this.users = users != null ? users : new ArrayList<>();
+    /** Rows come from {@link RowMapper#mapUsers}. */
+    void setRows(List<UserRow> rows) {
+        this.rows = rows != null ? rows : new ArrayList<>();
         notifyDataSetChanged();
     }
 
@@ -37,18 +38,24 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.ViewHolder> {
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.item_user, parent, false);
-        return new ViewHolder(view);
+        ViewHolder holder = new ViewHolder(view);
+        view.setOnClickListener(v -> {
+            int position = holder.getAdapterPosition();
+            if (listener != null && position != RecyclerView.NO_POSITION) {
+                listener.onUserClick(rows.get(position).user);
+            }
+        });
+        return holder;
     }
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        User user = users.get(position);
-        holder.bind(user, listener);
+        holder.bind(rows.get(position));
     }
 
     @Override
     public int getItemCount() {
-        return users.size();
+        return rows.size();
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -65,24 +72,12 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.ViewHolder> {
             userRole = itemView.findViewById(R.id.userRole);
         }
 
-        public void bind(User user, OnUserClickListener listener) {
-            userName.setText(user.getName());
-            userEmail.setText(user.getEmail());
-            userBalance.setText(CurrencyUtils.formatToRupiah(user.getBalanceAsInt()));
-
-            if ("admin".equals(user.getRole())) {
-                userRole.setText(itemView.getContext().getString(R.string.manage_users_role_admin));
-                userRole.setChipBackgroundColorResource(R.color.gamex_green);
-            } else {
-                userRole.setText(itemView.getContext().getString(R.string.manage_users_role_user));
-                userRole.setChipBackgroundColorResource(android.R.color.darker_gray);
-            }
-
-            itemView.setOnClickListener(v -> {
-                if (listener != null) {
-                    listener.onUserClick(user);
-                }
-            });
+        public void bind(UserRow row) {
+            userName.setText(row.name);
+            userEmail.setText(row.email);
+            userBalance.setText(row.balance);
+            userRole.setText(row.role);
+            userRole.setChipBackgroundColor(row.roleColor);
         }
     }
 }
@@ -0,0 +1,27 @@
+package com.gamex.app;
+
+import android.content.res.ColorStateList;
+
+import com.gamex.app.models.User;
+
+/**
+ * A user with every display string and color already resolved, built off the main
+ * thread by {@link RowMapper}.
+ */
+final class UserRow {
+    final User user;
+    final String name;
+    final String email;
+    final String balance;
+    final String role;
+    final ColorStateList roleColor;
+
+    UserRow(User user, String name, String email, String balance, String role, ColorStateList roleColor) {
+        this.user = user;
+        this.name = name;
+        this.email = email;
+        this.balance = balance;
+        this.role = role;
+        this.roleColor = roleColor;
+    }
+}
@@ -0,0 +1,197 @@
+package com.gamex.app;
+
+import android.content.Context;
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.gamex.app.models.User;
+import com.gamex.app.models.UserResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * App-scoped copy of the signed-in {@link User} from /api/auth/me. Screens render
+ * {@link #getUser()} straight away, register a {@link Listener} for updates and call
+ * {@link #refresh(Context)} from onResume; the network is only hit when the copy is older
+ * than {@link #MAX_AGE_MS} or was {@link #invalidate() invalidated} by a purchase or
+ * deposit. Main thread only.
+ */
+final class UserSession {
+
+    static final long MAX_AGE_MS = 60_000L;
+
+    interface Listener {
+        void onUserChanged(User user);
+        void onUserError(String errorMessage);
+    }
+
+    private final List<Listener> listeners = new ArrayList<>();
+
+    @Nullable
+    private ApiService apiService;
+    @Nullable
+    private User user;
+    private long fetchedAt;
+    /** Bumped by {@link #invalidate()}. */
+    private int invalidations;
+    /** The {@link #invalidations} count when the fetch that produced {@link #user} started. */
+    private int userInvalidations;
+    private boolean loading;
+    /** Bumped by {@link #clear()} so a response for the previous account is dropped. */
+    private int generation;
+
+    private UserSession() {
+    }
+
+    static UserSession getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static final class Holder {
+        static final UserSession INSTANCE = new UserSession();
+    }
+
+    @Nullable
+    User getUser() {
+        return user;
+    }
+
+    boolean isFresh() {
+        return user != null && userInvalidations == invalidations && SystemClock.elapsedRealtime() - fetchedAt < MAX_AGE_MS;
+    }
+
+    void addListener(Listener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /** Fetches the profile unless the cached one is still fresh or a fetch is running. */
+    void refresh(Context context) {
+        if (!isFresh()) {
+            load(context);
+        }
+    }
+
+    /**
+     * Delivers the profile to {@code listener} exactly once: straight away when the cached
+     * copy is fresh, otherwise when the next fetch completes. Nothing is delivered once
+     * {@code owner} is destroyed, and the session stops holding the listener then.
+     */
+    void requestUser(Context context, LifecycleOwner owner, Listener listener) {
+        if (isFresh()) {
+            listener.onUserChanged(user);
+            return;
+        }
+        OwnedListener owned = new OwnedListener(owner, listener);
+        addListener(owned);
+        owner.getLifecycle().addObserver(owned);
+        load(context);
+    }
+
+    /** A one-shot listener that is dropped when its owner is destroyed. */
+    private final class OwnedListener implements Listener, LifecycleEventObserver {
+        private final LifecycleOwner owner;
+        private final Listener listener;
+
+        OwnedListener(LifecycleOwner owner, Listener listener) {
+            this.owner = owner;
+            this.listener = listener;
+        }
+
+        @Override
+        public void onUserChanged(User changed) {
+            detach();
+            listener.onUserChanged(changed);
+        }
+
+        @Override
+        public void onUserError(String errorMessage) {
+            detach();
+            listener.onUserError(errorMessage);
+        }
+
+        @Override
+        public void onStateChanged(LifecycleOwner source, Lifecycle.Event event) {
+            if (event == Lifecycle.Event.ON_DESTROY) {
+                detach();
+            }
+        }
+
+        private void detach() {
+            removeListener(this);
+            owner.getLifecycle().removeObserver(this);
+        }
+    }
+
+    /** Marks the cached profile stale, e.g. after the balance changed server-side. */
+    void invalidate() {
+        invalidations++;
+    }
+
+    /** Forgets the signed-in user; call on logout. */
+    void clear() {
+        generation++;
+        user = null;
+        fetchedAt = 0L;
+        userInvalidations = invalidations;
+        loading = false;
+    }
+
+    private void load(Context context) {
+        if (loading) {
+            return;
+        }
+        loading = true;
+        int started = generation;
+        // An invalidate() that arrives while this fetch is running keeps the result stale,
+        // and a failed fetch leaves the old copy stale.
+        int invalidationsAtStart = invalidations;
+        if (apiService == null) {
+            apiService = new ApiService();
+        }
+        apiService.fetchUserBalance(context.getApplicationContext(), new ApiService.UserCallback() {
+            @Override
+            public void onSuccess(UserResponse userResponse) {
+                if (started != generation) {
+                    return;
+                }
+                loading = false;
+                if (userResponse == null || userResponse.getUser() == null) {
+                    notifyError("Empty profile response");
+                    return;
+                }
+                user = userResponse.getUser();
+                fetchedAt = SystemClock.elapsedRealtime();
+                userInvalidations = invalidationsAtStart;
+                for (Listener listener : new ArrayList<>(listeners)) {
+                    listener.onUserChanged(user);
+                }
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+                if (started != generation) {
+                    return;
+                }
+                loading = false;
+                notifyError(errorMessage);
+            }
+        });
+    }
+
+    private void notifyError(String errorMessage) {
+        for (Listener listener : new ArrayList<>(listeners)) {
+            listener.onUserError(errorMessage);
+        }
+    }
+}
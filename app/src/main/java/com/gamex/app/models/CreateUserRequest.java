@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class CreateUserRequest {
     @SerializedName("name")
@@ -65,4 +70,49 @@ public class CreateUserRequest {
     public void setRole(String role) {
         this.role = role;
     }
+
+    static final TypeAdapter<CreateUserRequest> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<CreateUserRequest> {
+        @Override
+        public CreateUserRequest read(JsonReader in) throws IOException {
+            CreateUserRequest request = new CreateUserRequest(null, null, null, null, null);
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name":
+                        request.name = JsonReaders.nextString(in);
+                        break;
+                    case "email":
+                        request.email = JsonReaders.nextString(in);
+                        break;
+                    case "password":
+                        request.password = JsonReaders.nextString(in);
+                        break;
+                    case "phone":
+                        request.phone = JsonReaders.nextString(in);
+                        break;
+                    case "role":
+                        request.role = JsonReaders.nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return request;
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateUserRequest request) throws IOException {
+            out.beginObject();
+            out.name("name").value(request.name);
+            out.name("email").value(request.email);
+            out.name("password").value(request.password);
+            out.name("phone").value(request.phone);
+            out.name("role").value(request.role);
+            out.endObject();
+        }
+    }
 }
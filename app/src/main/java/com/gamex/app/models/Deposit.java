@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class Deposit {
     @SerializedName("id")
@@ -10,13 +15,13 @@ public class Deposit {
     private int userId;
 
     @SerializedName("amount")
-    private String amount;
+    private Money amount = Money.ZERO;
 
     @SerializedName("random_amount")
     private int randomAmount;
 
     @SerializedName("total_amount")
-    private String totalAmount;
+    private Money totalAmount = Money.ZERO;
 
     @SerializedName("qris_code")
     private String qrisCode;
@@ -47,32 +52,24 @@ public class Deposit {
         return userId;
     }
 
-    public String getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
     public int getAmountAsInt() {
-        try {
-            return (int) Double.parseDouble(amount);
-        } catch (NumberFormatException e) {
-            return 0;
-        }
+        return amount.intValue();
     }
 
     public int getRandomAmount() {
         return randomAmount;
     }
 
-    public String getTotalAmount() {
+    public Money getTotalAmount() {
         return totalAmount;
     }
 
     public int getTotalAmountAsInt() {
-        try {
-            return (int) Double.parseDouble(totalAmount);
-        } catch (NumberFormatException e) {
-            return 0;
-        }
+        return totalAmount.intValue();
     }
 
     public String getQrisCode() {
@@ -114,4 +111,77 @@ public class Deposit {
     public String getUpdatedAt() {
         return updatedAt;
     }
+
+    static final TypeAdapter<Deposit> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<Deposit> {
+        @Override
+        public Deposit read(JsonReader in) throws IOException {
+            Deposit deposit = new Deposit();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        deposit.id = JsonReaders.nextInt(in);
+                        break;
+                    case "user_id":
+                        deposit.userId = JsonReaders.nextInt(in);
+                        break;
+                    case "amount":
+                        deposit.amount = Money.read(in);
+                        break;
+                    case "random_amount":
+                        deposit.randomAmount = JsonReaders.nextInt(in);
+                        break;
+                    case "total_amount":
+                        deposit.totalAmount = Money.read(in);
+                        break;
+                    case "qris_code":
+                        deposit.qrisCode = JsonReaders.nextString(in);
+                        break;
+                    case "qris_image":
+                        deposit.qrisImage = JsonReaders.nextString(in);
+                        break;
+                    case "status":
+                        deposit.status = JsonReaders.nextString(in);
+                        break;
+                    case "paid_at":
+                        deposit.paidAt = JsonReaders.nextString(in);
+                        break;
+                    case "cancelled_at":
+                        deposit.cancelledAt = JsonReaders.nextString(in);
+                        break;
+                    case "created_at":
+                        deposit.createdAt = JsonReaders.nextString(in);
+                        break;
+                    case "updated_at":
+                        deposit.updatedAt = JsonReaders.nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return deposit;
+        }
+
+        @Override
+        public void write(JsonWriter out, Deposit deposit) throws IOException {
+            out.beginObject();
+            out.name("id").value(deposit.id);
+            out.name("user_id").value(deposit.userId);
+            out.name("amount").value(deposit.amount.toPlainString());
+            out.name("random_amount").value(deposit.randomAmount);
+            out.name("total_amount").value(deposit.totalAmount.toPlainString());
+            out.name("qris_code").value(deposit.qrisCode);
+            out.name("qris_image").value(deposit.qrisImage);
+            out.name("status").value(deposit.status);
+            out.name("paid_at").value(deposit.paidAt);
+            out.name("cancelled_at").value(deposit.cancelledAt);
+            out.name("created_at").value(deposit.createdAt);
+            out.name("updated_at").value(deposit.updatedAt);
+            out.endObject();
+        }
+    }
 }
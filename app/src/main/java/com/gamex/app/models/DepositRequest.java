@@ -1,5 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
 public class DepositRequest {
     private int amount;
 
@@ -14,4 +20,30 @@ public class DepositRequest {
     public void setAmount(int amount) {
         this.amount = amount;
     }
+
+    static final TypeAdapter<DepositRequest> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<DepositRequest> {
+        @Override
+        public DepositRequest read(JsonReader in) throws IOException {
+            DepositRequest request = new DepositRequest(0);
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("amount".equals(in.nextName())) {
+                    request.amount = JsonReaders.nextInt(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return request;
+        }
+
+        @Override
+        public void write(JsonWriter out, DepositRequest request) throws IOException {
+            out.beginObject();
+            out.name("amount").value(request.amount);
+            out.endObject();
+        }
+    }
 }
@@ -1,7 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.List;
 
 public class DepositResponse {
@@ -54,5 +58,86 @@ public class DepositResponse {
         public String getStatus() {
             return status;
         }
+
+        static final TypeAdapter<DepositData> ADAPTER = new Adapter().nullSafe();
+
+        private static final class Adapter extends TypeAdapter<DepositData> {
+            @Override
+            public DepositData read(JsonReader in) throws IOException {
+                DepositData data = new DepositData();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "deposit":
+                            data.deposit = Deposit.ADAPTER.read(in);
+                            break;
+                        case "qris_image_url":
+                            data.qrisImageUrl = JsonReaders.nextString(in);
+                            break;
+                        case "instructions":
+                            data.instructions = JsonReaders.nextStringList(in);
+                            break;
+                        case "status":
+                            data.status = JsonReaders.nextString(in);
+                            break;
+                        default:
+                            in.skipValue();
+                            break;
+                    }
+                }
+                in.endObject();
+                return data;
+            }
+
+            @Override
+            public void write(JsonWriter out, DepositData data) throws IOException {
+                out.beginObject();
+                out.name("deposit");
+                Deposit.ADAPTER.write(out, data.deposit);
+                out.name("qris_image_url").value(data.qrisImageUrl);
+                out.name("instructions");
+                JsonWriters.writeStringList(out, data.instructions);
+                out.name("status").value(data.status);
+                out.endObject();
+            }
+        }
+    }
+
+    static final TypeAdapter<DepositResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<DepositResponse> {
+        @Override
+        public DepositResponse read(JsonReader in) throws IOException {
+            DepositResponse response = new DepositResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "success":
+                        response.success = JsonReaders.nextBoolean(in);
+                        break;
+                    case "message":
+                        response.message = JsonReaders.nextString(in);
+                        break;
+                    case "data":
+                        response.data = DepositData.ADAPTER.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, DepositResponse response) throws IOException {
+            out.beginObject();
+            out.name("success").value(response.success);
+            out.name("message").value(response.message);
+            out.name("data");
+            DepositData.ADAPTER.write(out, response.data);
+            out.endObject();
+        }
     }
 }
@@ -0,0 +1,41 @@
+package com.gamex.app.models;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Counterparts of {@link JsonReaders} for the write side of the hand-written adapters.
+ */
+final class JsonWriters {
+
+    private JsonWriters() {
+        // Utility class.
+    }
+
+    static <T> void writeList(JsonWriter out, List<T> list, TypeAdapter<T> elementAdapter) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T element : list) {
+            elementAdapter.write(out, element);
+        }
+        out.endArray();
+    }
+
+    static void writeStringList(JsonWriter out, List<String> list) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (String element : list) {
+            out.value(element);
+        }
+        out.endArray();
+    }
+}
@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class MessageResponse {
     @SerializedName("message")
@@ -13,4 +18,30 @@ public class MessageResponse {
     public void setMessage(String message) {
         this.message = message;
     }
+
+    static final TypeAdapter<MessageResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<MessageResponse> {
+        @Override
+        public MessageResponse read(JsonReader in) throws IOException {
+            MessageResponse response = new MessageResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("message".equals(in.nextName())) {
+                    response.message = JsonReaders.nextString(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, MessageResponse response) throws IOException {
+            out.beginObject();
+            out.name("message").value(response.message);
+            out.endObject();
+        }
+    }
 }
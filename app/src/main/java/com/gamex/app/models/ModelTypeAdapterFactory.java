@@ -0,0 +1,48 @@
+package com.gamex.app.models;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves the hand-written adapters for every API model so Gson never falls back to
+ * its reflective adapter for them. Register once on the shared Gson instance.
+ */
+public final class ModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    private final Map<Class<?>, TypeAdapter<?>> adapters = new HashMap<>();
+
+    public ModelTypeAdapterFactory() {
+        adapters.put(Transaction.class, Transaction.ADAPTER);
+        adapters.put(Product.class, Product.ADAPTER);
+        adapters.put(User.class, User.ADAPTER);
+        adapters.put(Deposit.class, Deposit.ADAPTER);
+        adapters.put(PaginatedTransactionsResponse.class, PaginatedTransactionsResponse.ADAPTER);
+        adapters.put(PaginatedUsersResponse.class, PaginatedUsersResponse.ADAPTER);
+        adapters.put(PageTotalResponse.class, PageTotalResponse.ADAPTER);
+        adapters.put(MyTransactionsResponse.class, MyTransactionsResponse.ADAPTER);
+        adapters.put(ProductResponse.class, ProductResponse.ADAPTER);
+        adapters.put(ProductResponse.Category.class, ProductResponse.Category.ADAPTER);
+        adapters.put(DepositResponse.class, DepositResponse.ADAPTER);
+        adapters.put(DepositResponse.DepositData.class, DepositResponse.DepositData.ADAPTER);
+        adapters.put(TransactionResponse.class, TransactionResponse.ADAPTER);
+        adapters.put(TransactionStatusResponse.class, TransactionStatusResponse.ADAPTER);
+        adapters.put(UserResponse.class, UserResponse.ADAPTER);
+        adapters.put(ToggleRoleResponse.class, ToggleRoleResponse.ADAPTER);
+        adapters.put(MessageResponse.class, MessageResponse.ADAPTER);
+        adapters.put(CreateUserRequest.class, CreateUserRequest.ADAPTER);
+        adapters.put(UpdateUserRequest.class, UpdateUserRequest.ADAPTER);
+        adapters.put(TransactionRequest.class, TransactionRequest.ADAPTER);
+        adapters.put(DepositRequest.class, DepositRequest.ADAPTER);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        return (TypeAdapter<T>) adapters.get(type.getRawType());
+    }
+}
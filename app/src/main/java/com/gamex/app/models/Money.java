@@ -0,0 +1,175 @@
+package com.gamex.app.models;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Fixed-point Rupiah amount stored as a long count of minor units (1/100).
+ * The API sends amounts as decimal strings such as "15000.00"; they are parsed once
+ * when the model is decoded instead of on every bind.
+ */
+@JsonAdapter(value = Money.Adapter.class, nullSafe = false)
+public final class Money {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int MINOR_PER_UNIT = 100;
+    private static final int FRACTION_DIGITS = 2;
+    // 16 whole digits times MINOR_PER_UNIT still fits in a long; 17 can wrap.
+    private static final int MAX_DIGITS = 16;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money ofWhole(long units) {
+        return ofMinor(units * MINOR_PER_UNIT);
+    }
+
+    /**
+     * Parses "15000", "15000.5" or "-15000.00". Extra fraction digits are truncated;
+     * anything unparseable yields {@link #ZERO}, as the old parseDouble fallbacks did.
+     */
+    public static Money parse(CharSequence text) {
+        if (text == null) {
+            return ZERO;
+        }
+        int length = text.length();
+        int index = 0;
+        boolean negative = false;
+        if (index < length && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            negative = text.charAt(index) == '-';
+            index++;
+        }
+
+        long whole = 0;
+        int digits = 0;
+        while (index < length && isDigit(text.charAt(index))) {
+            if (++digits > MAX_DIGITS) {
+                return ZERO;
+            }
+            whole = whole * 10 + (text.charAt(index) - '0');
+            index++;
+        }
+
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (index < length && text.charAt(index) == '.') {
+            index++;
+            while (index < length && isDigit(text.charAt(index))) {
+                if (fractionDigits < FRACTION_DIGITS) {
+                    fraction = fraction * 10 + (text.charAt(index) - '0');
+                    fractionDigits++;
+                }
+                digits++;
+                index++;
+            }
+        }
+
+        if (digits == 0 || index != length) {
+            return ZERO;
+        }
+        for (; fractionDigits < FRACTION_DIGITS; fractionDigits++) {
+            fraction *= 10;
+        }
+        long minor = whole * MINOR_PER_UNIT + fraction;
+        return ofMinor(negative ? -minor : minor);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * Whole Rupiah, truncated toward zero.
+     */
+    public long getWholeUnits() {
+        return minorUnits / MINOR_PER_UNIT;
+    }
+
+    public int intValue() {
+        long whole = getWholeUnits();
+        if (whole > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        if (whole < Integer.MIN_VALUE) {
+            return Integer.MIN_VALUE;
+        }
+        return (int) whole;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    /**
+     * Same shape the API uses, e.g. "15000.00".
+     */
+    public String toPlainString() {
+        long abs = Math.abs(minorUnits);
+        long fraction = abs % MINOR_PER_UNIT;
+        StringBuilder builder = new StringBuilder(20);
+        if (minorUnits < 0) {
+            builder.append('-');
+        }
+        builder.append(abs / MINOR_PER_UNIT).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction).toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && ((Money) other).minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+
+    static Money read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return ZERO;
+        }
+        return parse(in.nextString());
+    }
+
+    static final class Adapter extends TypeAdapter<Money> {
+        @Override
+        public Money read(JsonReader in) throws IOException {
+            return Money.read(in);
+        }
+
+        @Override
+        public void write(JsonWriter out, Money value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value.toPlainString());
+            }
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.List;
 
 public class MyTransactionsResponse {
@@ -10,24 +15,15 @@ public class MyTransactionsResponse {
     @SerializedName("data")
     private List<Transaction> data;
 
-    @SerializedName("first_page_url")
-    private String firstPageUrl;
-
     @SerializedName("from")
     private Integer from;
 
     @SerializedName("last_page")
     private int lastPage;
 
-    @SerializedName("last_page_url")
-    private String lastPageUrl;
-
     @SerializedName("next_page_url")
     private String nextPageUrl;
 
-    @SerializedName("path")
-    private String path;
-
     @SerializedName("per_page")
     private int perPage;
 
@@ -48,10 +44,6 @@ public class MyTransactionsResponse {
         return data;
     }
 
-    public String getFirstPageUrl() {
-        return firstPageUrl;
-    }
-
     public Integer getFrom() {
         return from;
     }
@@ -60,18 +52,10 @@ public class MyTransactionsResponse {
         return lastPage;
     }
 
-    public String getLastPageUrl() {
-        return lastPageUrl;
-    }
-
     public String getNextPageUrl() {
         return nextPageUrl;
     }
 
-    public String getPath() {
-        return path;
-    }
-
     public int getPerPage() {
         return perPage;
     }
@@ -95,4 +79,67 @@ public class MyTransactionsResponse {
     public boolean hasPrevPage() {
         return prevPageUrl != null;
     }
+
+    static final TypeAdapter<MyTransactionsResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<MyTransactionsResponse> {
+        @Override
+        public MyTransactionsResponse read(JsonReader in) throws IOException {
+            MyTransactionsResponse response = new MyTransactionsResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "current_page":
+                        response.currentPage = JsonReaders.nextInt(in);
+                        break;
+                    case "data":
+                        response.data = JsonReaders.nextList(in, Transaction.ADAPTER);
+                        break;
+                    case "from":
+                        response.from = JsonReaders.nextInteger(in);
+                        break;
+                    case "last_page":
+                        response.lastPage = JsonReaders.nextInt(in);
+                        break;
+                    case "next_page_url":
+                        response.nextPageUrl = JsonReaders.nextString(in);
+                        break;
+                    case "per_page":
+                        response.perPage = JsonReaders.nextInt(in);
+                        break;
+                    case "prev_page_url":
+                        response.prevPageUrl = JsonReaders.nextString(in);
+                        break;
+                    case "to":
+                        response.to = JsonReaders.nextInteger(in);
+                        break;
+                    case "total":
+                        response.total = JsonReaders.nextInt(in);
+                        break;
+                    default:
+                        // first_page_url, last_page_url, path, links: never read by the app.
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, MyTransactionsResponse response) throws IOException {
+            out.beginObject();
+            out.name("current_page").value(response.currentPage);
+            out.name("data");
+            JsonWriters.writeList(out, response.data, Transaction.ADAPTER);
+            out.name("from").value(response.from);
+            out.name("last_page").value(response.lastPage);
+            out.name("next_page_url").value(response.nextPageUrl);
+            out.name("per_page").value(response.perPage);
+            out.name("prev_page_url").value(response.prevPageUrl);
+            out.name("to").value(response.to);
+            out.name("total").value(response.total);
+            out.endObject();
+        }
+    }
 }
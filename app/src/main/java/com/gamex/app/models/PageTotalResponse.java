@@ -0,0 +1,45 @@
+package com.gamex.app.models;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Just the {@code total} of a paginated list response. Everything else in the page,
+ * including its rows, is skipped while streaming and never materialised.
+ */
+public class PageTotalResponse {
+    private int total;
+
+    public int getTotal() {
+        return total;
+    }
+
+    static final TypeAdapter<PageTotalResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<PageTotalResponse> {
+        @Override
+        public PageTotalResponse read(JsonReader in) throws IOException {
+            PageTotalResponse response = new PageTotalResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("total".equals(in.nextName())) {
+                    response.total = JsonReaders.nextInt(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, PageTotalResponse response) throws IOException {
+            out.beginObject();
+            out.name("total").value(response.total);
+            out.endObject();
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Objects;
 
 public class Product {
     @SerializedName("id")
@@ -16,7 +22,7 @@ public class Product {
     private String keterangan;
 
     @SerializedName("harga")
-    private String harga;
+    private Money harga = Money.ZERO;
 
     @SerializedName("status")
     private boolean status;
@@ -46,16 +52,12 @@ public class Product {
         return keterangan;
     }
 
-    public String getHarga() {
+    public Money getHarga() {
         return harga;
     }
 
     public int getHargaAsInt() {
-        try {
-            return (int) Double.parseDouble(harga);
-        } catch (NumberFormatException e) {
-            return 0;
-        }
+        return harga.intValue();
     }
 
     public boolean isStatus() {
@@ -73,4 +75,90 @@ public class Product {
     public int getCategoryId() {
         return categoryId;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Product)) {
+            return false;
+        }
+        Product other = (Product) o;
+        return id == other.id
+                && status == other.status
+                && categoryId == other.categoryId
+                && harga.equals(other.harga)
+                && Objects.equals(kode, other.kode)
+                && Objects.equals(nama, other.nama)
+                && Objects.equals(keterangan, other.keterangan)
+                && Objects.equals(createdAt, other.createdAt)
+                && Objects.equals(updatedAt, other.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, kode, nama, keterangan, harga, status, createdAt, updatedAt, categoryId);
+    }
+
+    static final TypeAdapter<Product> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<Product> {
+        @Override
+        public Product read(JsonReader in) throws IOException {
+            Product product = new Product();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        product.id = JsonReaders.nextInt(in);
+                        break;
+                    case "kode":
+                        product.kode = JsonReaders.nextString(in);
+                        break;
+                    case "nama":
+                        product.nama = JsonReaders.nextString(in);
+                        break;
+                    case "keterangan":
+                        product.keterangan = JsonReaders.nextString(in);
+                        break;
+                    case "harga":
+                        product.harga = Money.read(in);
+                        break;
+                    case "status":
+                        product.status = JsonReaders.nextBoolean(in);
+                        break;
+                    case "created_at":
+                        product.createdAt = JsonReaders.nextString(in);
+                        break;
+                    case "updated_at":
+                        product.updatedAt = JsonReaders.nextString(in);
+                        break;
+                    case "category_id":
+                        product.categoryId = JsonReaders.nextInt(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return product;
+        }
+
+        @Override
+        public void write(JsonWriter out, Product product) throws IOException {
+            out.beginObject();
+            out.name("id").value(product.id);
+            out.name("kode").value(product.kode);
+            out.name("nama").value(product.nama);
+            out.name("keterangan").value(product.keterangan);
+            out.name("harga").value(product.harga.toPlainString());
+            out.name("status").value(product.status);
+            out.name("created_at").value(product.createdAt);
+            out.name("updated_at").value(product.updatedAt);
+            out.name("category_id").value(product.categoryId);
+            out.endObject();
+        }
+    }
 }
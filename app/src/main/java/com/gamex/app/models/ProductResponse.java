@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.util.List;
 
 public class ProductResponse {
@@ -60,5 +65,90 @@ public class ProductResponse {
         public List<Product> getProducts() {
             return products;
         }
+
+        static final TypeAdapter<Category> ADAPTER = new Adapter().nullSafe();
+
+        private static final class Adapter extends TypeAdapter<Category> {
+            @Override
+            public Category read(JsonReader in) throws IOException {
+                Category category = new Category();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "id":
+                            category.id = JsonReaders.nextInt(in);
+                            break;
+                        case "name":
+                            category.name = JsonReaders.nextString(in);
+                            break;
+                        case "code":
+                            category.code = JsonReaders.nextString(in);
+                            break;
+                        case "created_at":
+                            category.createdAt = JsonReaders.nextString(in);
+                            break;
+                        case "updated_at":
+                            category.updatedAt = JsonReaders.nextString(in);
+                            break;
+                        case "products":
+                            category.products = JsonReaders.nextList(in, Product.ADAPTER);
+                            break;
+                        default:
+                            in.skipValue();
+                            break;
+                    }
+                }
+                in.endObject();
+                return category;
+            }
+
+            @Override
+            public void write(JsonWriter out, Category category) throws IOException {
+                out.beginObject();
+                out.name("id").value(category.id);
+                out.name("name").value(category.name);
+                out.name("code").value(category.code);
+                out.name("created_at").value(category.createdAt);
+                out.name("updated_at").value(category.updatedAt);
+                out.name("products");
+                JsonWriters.writeList(out, category.products, Product.ADAPTER);
+                out.endObject();
+            }
+        }
+    }
+
+    static final TypeAdapter<ProductResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<ProductResponse> {
+        @Override
+        public ProductResponse read(JsonReader in) throws IOException {
+            ProductResponse response = new ProductResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "category":
+                        response.category = Category.ADAPTER.read(in);
+                        break;
+                    case "products":
+                        response.products = JsonReaders.nextList(in, Product.ADAPTER);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, ProductResponse response) throws IOException {
+            out.beginObject();
+            out.name("category");
+            Category.ADAPTER.write(out, response.category);
+            out.name("products");
+            JsonWriters.writeList(out, response.products, Product.ADAPTER);
+            out.endObject();
+        }
     }
 }
@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class ToggleRoleResponse {
     @SerializedName("message")
@@ -16,4 +21,38 @@ public class ToggleRoleResponse {
     public User getUser() {
         return user;
     }
+
+    static final TypeAdapter<ToggleRoleResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<ToggleRoleResponse> {
+        @Override
+        public ToggleRoleResponse read(JsonReader in) throws IOException {
+            ToggleRoleResponse response = new ToggleRoleResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "message":
+                        response.message = JsonReaders.nextString(in);
+                        break;
+                    case "user":
+                        response.user = User.ADAPTER.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, ToggleRoleResponse response) throws IOException {
+            out.beginObject();
+            out.name("message").value(response.message);
+            out.name("user");
+            User.ADAPTER.write(out, response.user);
+            out.endObject();
+        }
+    }
 }
@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class Transaction {
     @SerializedName("id")
@@ -22,7 +27,7 @@ public class Transaction {
     private String paymentMethod;
 
     @SerializedName("amount")
-    private String amount;
+    private Money amount = Money.ZERO;
 
     @SerializedName("status")
     private String status;
@@ -63,16 +68,12 @@ public class Transaction {
         return paymentMethod;
     }
 
-    public String getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
     public int getAmountAsInt() {
-        try {
-            return (int) Double.parseDouble(amount);
-        } catch (NumberFormatException e) {
-            return 0;
-        }
+        return amount.intValue();
     }
 
     public String getStatus() {
@@ -118,4 +119,78 @@ public class Transaction {
     public Product getProduct() {
         return product;
     }
+
+    static final TypeAdapter<Transaction> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<Transaction> {
+        @Override
+        public Transaction read(JsonReader in) throws IOException {
+            Transaction transaction = new Transaction();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        transaction.id = JsonReaders.nextInt(in);
+                        break;
+                    case "user_id":
+                        transaction.userId = JsonReaders.nextInt(in);
+                        break;
+                    case "product_id":
+                        transaction.productId = JsonReaders.nextInt(in);
+                        break;
+                    case "target_id":
+                        transaction.targetId = JsonReaders.nextString(in);
+                        break;
+                    case "server_id":
+                        transaction.serverId = JsonReaders.nextString(in);
+                        break;
+                    case "payment_method":
+                        transaction.paymentMethod = JsonReaders.nextString(in);
+                        break;
+                    case "amount":
+                        transaction.amount = Money.read(in);
+                        break;
+                    case "status":
+                        transaction.status = JsonReaders.nextString(in);
+                        break;
+                    case "provider_trx_id":
+                        transaction.providerTrxId = JsonReaders.nextString(in);
+                        break;
+                    case "created_at":
+                        transaction.createdAt = JsonReaders.nextString(in);
+                        break;
+                    case "updated_at":
+                        transaction.updatedAt = JsonReaders.nextString(in);
+                        break;
+                    case "product":
+                        transaction.product = Product.ADAPTER.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return transaction;
+        }
+
+        @Override
+        public void write(JsonWriter out, Transaction transaction) throws IOException {
+            out.beginObject();
+            out.name("id").value(transaction.id);
+            out.name("user_id").value(transaction.userId);
+            out.name("product_id").value(transaction.productId);
+            out.name("target_id").value(transaction.targetId);
+            out.name("server_id").value(transaction.serverId);
+            out.name("payment_method").value(transaction.paymentMethod);
+            out.name("amount").value(transaction.amount.toPlainString());
+            out.name("status").value(transaction.status);
+            out.name("provider_trx_id").value(transaction.providerTrxId);
+            out.name("created_at").value(transaction.createdAt);
+            out.name("updated_at").value(transaction.updatedAt);
+            out.name("product");
+            Product.ADAPTER.write(out, transaction.product);
+            out.endObject();
+        }
+    }
 }
@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class TransactionRequest {
     @SerializedName("product_id")
@@ -21,4 +26,37 @@ public class TransactionRequest {
     public String getTargetId() {
         return targetId;
     }
+
+    static final TypeAdapter<TransactionRequest> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<TransactionRequest> {
+        @Override
+        public TransactionRequest read(JsonReader in) throws IOException {
+            TransactionRequest request = new TransactionRequest(0, null);
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "product_id":
+                        request.productId = JsonReaders.nextInt(in);
+                        break;
+                    case "target_id":
+                        request.targetId = JsonReaders.nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return request;
+        }
+
+        @Override
+        public void write(JsonWriter out, TransactionRequest request) throws IOException {
+            out.beginObject();
+            out.name("product_id").value(request.productId);
+            out.name("target_id").value(request.targetId);
+            out.endObject();
+        }
+    }
 }
@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class TransactionResponse {
     @SerializedName("message")
@@ -49,4 +54,54 @@ public class TransactionResponse {
     public boolean isInsufficientBalance() {
         return shortage > 0;
     }
+
+    static final TypeAdapter<TransactionResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<TransactionResponse> {
+        @Override
+        public TransactionResponse read(JsonReader in) throws IOException {
+            TransactionResponse response = new TransactionResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "message":
+                        response.message = JsonReaders.nextString(in);
+                        break;
+                    case "transaction":
+                        response.transaction = Transaction.ADAPTER.read(in);
+                        break;
+                    case "new_balance":
+                        response.newBalance = JsonReaders.nextString(in);
+                        break;
+                    case "required":
+                        response.required = JsonReaders.nextString(in);
+                        break;
+                    case "current_balance":
+                        response.currentBalance = JsonReaders.nextString(in);
+                        break;
+                    case "shortage":
+                        response.shortage = JsonReaders.nextInt(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, TransactionResponse response) throws IOException {
+            out.beginObject();
+            out.name("message").value(response.message);
+            out.name("transaction");
+            Transaction.ADAPTER.write(out, response.transaction);
+            out.name("new_balance").value(response.newBalance);
+            out.name("required").value(response.required);
+            out.name("current_balance").value(response.currentBalance);
+            out.name("shortage").value(response.shortage);
+            out.endObject();
+        }
+    }
 }
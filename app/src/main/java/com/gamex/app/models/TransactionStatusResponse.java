@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class TransactionStatusResponse {
     @SerializedName("transaction")
@@ -9,4 +14,31 @@ public class TransactionStatusResponse {
     public Transaction getTransaction() {
         return transaction;
     }
+
+    static final TypeAdapter<TransactionStatusResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<TransactionStatusResponse> {
+        @Override
+        public TransactionStatusResponse read(JsonReader in) throws IOException {
+            TransactionStatusResponse response = new TransactionStatusResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("transaction".equals(in.nextName())) {
+                    response.transaction = Transaction.ADAPTER.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, TransactionStatusResponse response) throws IOException {
+            out.beginObject();
+            out.name("transaction");
+            Transaction.ADAPTER.write(out, response.transaction);
+            out.endObject();
+        }
+    }
 }
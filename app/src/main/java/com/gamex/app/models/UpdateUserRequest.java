@@ -1,6 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 public class UpdateUserRequest {
     @SerializedName("name")
@@ -33,4 +38,45 @@ public class UpdateUserRequest {
     public void setBalance(String balance) {
         this.balance = balance;
     }
+
+    static final TypeAdapter<UpdateUserRequest> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<UpdateUserRequest> {
+        @Override
+        public UpdateUserRequest read(JsonReader in) throws IOException {
+            UpdateUserRequest request = new UpdateUserRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name":
+                        request.name = JsonReaders.nextString(in);
+                        break;
+                    case "email":
+                        request.email = JsonReaders.nextString(in);
+                        break;
+                    case "phone":
+                        request.phone = JsonReaders.nextString(in);
+                        break;
+                    case "balance":
+                        request.balance = JsonReaders.nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return request;
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserRequest request) throws IOException {
+            out.beginObject();
+            out.name("name").value(request.name);
+            out.name("email").value(request.email);
+            out.name("phone").value(request.phone);
+            out.name("balance").value(request.balance);
+            out.endObject();
+        }
+    }
 }
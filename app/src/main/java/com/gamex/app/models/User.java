@@ -1,12 +1,18 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
 public class User {
     private int id;
     private String name;
     private String email;
     private String phone;
     private String role;
-    private String balance;
+    private Money balance = Money.ZERO;
     private String created_at;
     private String updated_at;
 
@@ -50,12 +56,12 @@ public class User {
         this.role = role;
     }
 
-    public String getBalance() {
+    public Money getBalance() {
         return balance;
     }
 
-    public void setBalance(String balance) {
-        this.balance = balance;
+    public void setBalance(Money balance) {
+        this.balance = balance != null ? balance : Money.ZERO;
     }
 
     public String getCreatedAt() {
@@ -75,10 +81,63 @@ public class User {
     }
 
     public int getBalanceAsInt() {
-        try {
-            return (int) Double.parseDouble(balance);
-        } catch (Exception e) {
-            return 0;
+        return balance.intValue();
+    }
+
+    static final TypeAdapter<User> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<User> {
+        @Override
+        public User read(JsonReader in) throws IOException {
+            User user = new User();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        user.id = JsonReaders.nextInt(in);
+                        break;
+                    case "name":
+                        user.name = JsonReaders.nextString(in);
+                        break;
+                    case "email":
+                        user.email = JsonReaders.nextString(in);
+                        break;
+                    case "phone":
+                        user.phone = JsonReaders.nextString(in);
+                        break;
+                    case "role":
+                        user.role = JsonReaders.nextString(in);
+                        break;
+                    case "balance":
+                        user.balance = Money.read(in);
+                        break;
+                    case "created_at":
+                        user.created_at = JsonReaders.nextString(in);
+                        break;
+                    case "updated_at":
+                        user.updated_at = JsonReaders.nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return user;
+        }
+
+        @Override
+        public void write(JsonWriter out, User user) throws IOException {
+            out.beginObject();
+            out.name("id").value(user.id);
+            out.name("name").value(user.name);
+            out.name("email").value(user.email);
+            out.name("phone").value(user.phone);
+            out.name("role").value(user.role);
+            out.name("balance").value(user.balance.toPlainString());
+            out.name("created_at").value(user.created_at);
+            out.name("updated_at").value(user.updated_at);
+            out.endObject();
         }
     }
 }
@@ -1,5 +1,11 @@
 package com.gamex.app.models;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
 public class UserResponse {
     private User user;
 
@@ -10,4 +16,31 @@ public class UserResponse {
     public void setUser(User user) {
         this.user = user;
     }
+
+    static final TypeAdapter<UserResponse> ADAPTER = new Adapter().nullSafe();
+
+    private static final class Adapter extends TypeAdapter<UserResponse> {
+        @Override
+        public UserResponse read(JsonReader in) throws IOException {
+            UserResponse response = new UserResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("user".equals(in.nextName())) {
+                    response.user = User.ADAPTER.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return response;
+        }
+
+        @Override
+        public void write(JsonWriter out, UserResponse response) throws IOException {
+            out.beginObject();
+            out.name("user");
+            User.ADAPTER.write(out, response.user);
+            out.endObject();
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.gamex.app;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Per-thread allocation counting for the JVM benchmarks; skips the test on VMs that cannot
+ * count.
+ */
+final class Allocations {
+
+    private Allocations() {
+        // Utility class.
+    }
+
+    static com.sun.management.ThreadMXBean counter() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
@@ -0,0 +1,77 @@
+package com.gamex.app;
+
+import com.gamex.app.models.Money;
+
+import org.junit.Test;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the buffer-based formatter and compares ns/op and bytes/op with the previous
+ * NumberFormat-per-call implementation.
+ */
+public class CurrencyUtilsBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ROUNDS = 100_000;
+
+    @Test
+    public void formatsWithGroupingAndPrefix() {
+        assertEquals("Rp 0", CurrencyUtils.formatToRupiah(0));
+        assertEquals("Rp 999", CurrencyUtils.formatToRupiah(999));
+        assertEquals("Rp 1.000", CurrencyUtils.formatToRupiah(1000));
+        assertEquals("Rp 1.234.567", CurrencyUtils.formatToRupiah(1234567));
+        assertEquals("-Rp 15.000", CurrencyUtils.formatToRupiah(-15000));
+        assertEquals("Rp 2.147.483.647", CurrencyUtils.formatToRupiah(Integer.MAX_VALUE));
+        assertEquals("-Rp 9.223.372.036.854.775.808", CurrencyUtils.formatToRupiah(Long.MIN_VALUE));
+        assertEquals("Rp 15.000", CurrencyUtils.formatToRupiah(Money.parse("15000.75")));
+        assertEquals("Rp 15.000", CurrencyUtils.formatToRupiah(15000.9d));
+    }
+
+    @Test
+    public void benchmarkAgainstNumberFormat() {
+        com.sun.management.ThreadMXBean threads = Allocations.counter();
+        int[] amounts = new int[1024];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = i * 7919 + 10_000;
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            legacyFormat(amounts[i & 1023]);
+            CurrencyUtils.formatToRupiah(amounts[i & 1023]);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        int sink = 0;
+
+        long bytes = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += legacyFormat(amounts[i & 1023]).length();
+        }
+        long legacyNs = (System.nanoTime() - start) / ROUNDS;
+        long legacyBytes = (threads.getThreadAllocatedBytes(threadId) - bytes) / ROUNDS;
+
+        bytes = threads.getThreadAllocatedBytes(threadId);
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += CurrencyUtils.formatToRupiah(amounts[i & 1023]).length();
+        }
+        long bufferedNs = (System.nanoTime() - start) / ROUNDS;
+        long bufferedBytes = (threads.getThreadAllocatedBytes(threadId) - bytes) / ROUNDS;
+
+        assertTrue("buffered formatter should allocate less: NumberFormat " + legacyNs + "ns/op "
+                + legacyBytes + "B/op, buffered " + bufferedNs + "ns/op " + bufferedBytes + "B/op (sink="
+                + sink + ")", bufferedBytes < legacyBytes);
+    }
+
+    /** The implementation this replaced. */
+    private static String legacyFormat(int amount) {
+        NumberFormat formatRupiah = NumberFormat.getCurrencyInstance(new Locale("id", "ID"));
+        return formatRupiah.format(amount);
+    }
+}
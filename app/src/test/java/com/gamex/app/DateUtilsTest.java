@@ -0,0 +1,69 @@
+package com.gamex.app;
+
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+public class DateUtilsTest {
+
+    // 2025-11-16T10:07:23Z
+    private static final long SAMPLE = 1_763_287_643_000L;
+
+    @Test
+    public void parsesLaravelShapes() {
+        assertEquals(SAMPLE, DateUtils.parseIsoMillis("2025-11-16T10:07:23.000000Z"));
+        assertEquals(SAMPLE, DateUtils.parseIsoMillis("2025-11-16T10:07:23Z"));
+        assertEquals(SAMPLE, DateUtils.parseIsoMillis("2025-11-16 10:07:23"));
+        assertEquals(SAMPLE, DateUtils.parseIsoMillis("2025-11-16T17:07:23+07:00"));
+        assertEquals(SAMPLE, DateUtils.parseIsoMillis("2025-11-16T05:37:23-0430"));
+        assertEquals(SAMPLE + 123, DateUtils.parseIsoMillis("2025-11-16T10:07:23.123987Z"));
+        assertEquals(SAMPLE + 500, DateUtils.parseIsoMillis("2025-11-16T10:07:23.5Z"));
+    }
+
+    @Test
+    public void agreesWithCalendarMathAcrossLeapYears() throws Exception {
+        SimpleDateFormat reference = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", Locale.US);
+        reference.setTimeZone(TimeZone.getTimeZone("UTC"));
+        String[] samples = {
+                "1970-01-01T00:00:00Z", "2000-02-29T23:59:59Z", "2024-02-29T12:00:00Z",
+                "2024-12-31T23:59:59Z", "2100-03-01T00:00:00Z", "1969-12-31T23:59:59Z"
+        };
+        for (String sample : samples) {
+            assertEquals(sample, reference.parse(sample).getTime(), DateUtils.parseIsoMillis(sample));
+        }
+    }
+
+    @Test
+    public void rejectsMalformedInputWithoutThrowing() {
+        String[] samples = {
+                null, "", "2025-11-16", "2025-13-01T00:00:00Z", "2025-02-29T00:00:00Z",
+                "2025-11-16T24:00:00Z", "2025-11-16X10:07:23Z", "2025-11-16T10:07:23.Z",
+                "2025-11-16T10:07:23+7", "2025-11-16T10:07:23Zjunk", "not a timestamp at all"
+        };
+        for (String sample : samples) {
+            assertEquals(String.valueOf(sample), DateUtils.INVALID, DateUtils.parseIsoMillis(sample));
+        }
+    }
+
+    @Test
+    public void formatsLikeIndonesianSimpleDateFormat() {
+        SimpleDateFormat reference = new SimpleDateFormat("dd MMM yyyy, HH:mm", new Locale("id", "ID"));
+        for (int month = 0; month < 12; month++) {
+            long millis = SAMPLE + month * 31L * 86_400_000L;
+            assertEquals(reference.format(new Date(millis)), DateUtils.formatDisplay(millis));
+        }
+    }
+
+    @Test
+    public void formatDateFallsBackToInput() {
+        assertEquals("", DateUtils.formatDate(null));
+        assertEquals("", DateUtils.formatDate(""));
+        assertEquals("kemarin", DateUtils.formatDate("kemarin"));
+        assertEquals(DateUtils.formatDisplay(SAMPLE), DateUtils.formatDate("2025-11-16T10:07:23.000000Z"));
+    }
+}
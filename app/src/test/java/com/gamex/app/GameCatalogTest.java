@@ -0,0 +1,46 @@
+package com.gamex.app;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class GameCatalogTest {
+
+    private static final GameEntry MLBB =
+            new GameEntry("mlbb", "Mobile Legends", "MOBA", 11, true, 6);
+    private static final GameEntry CODM =
+            new GameEntry("codm", "Call of Duty: Mobile", "", 12, false, 2);
+
+    @Test
+    public void indexesByIdAndCategory() {
+        GameCatalog catalog = new GameCatalog(new GameEntry[] {MLBB, CODM});
+
+        assertSame(MLBB, catalog.findById("mlbb"));
+        assertSame(CODM, catalog.findById("codm"));
+        assertSame(MLBB, catalog.findByCategoryNo(6));
+        assertSame(CODM, catalog.findByCategoryNo(2));
+        assertNull(catalog.findById("unknown"));
+        assertNull(catalog.findByCategoryNo(99));
+    }
+
+    @Test
+    public void gridKeepsTableOrder() {
+        GameCatalog catalog = new GameCatalog(new GameEntry[] {MLBB, CODM});
+
+        assertEquals(2, catalog.getGridItems().size());
+        assertEquals("mlbb", catalog.getGridItems().get(0).id);
+        assertEquals(12, catalog.getGridItems().get(1).drawableRes);
+    }
+
+    @Test
+    public void generatedTableIsIndexed() {
+        GameCatalog catalog = GameCatalog.getInstance();
+
+        for (GameEntry entry : GameTable.entries()) {
+            assertEquals(entry.id, catalog.findById(entry.id).id);
+            assertEquals(entry.id, catalog.findByCategoryNo(entry.categoryNo).id);
+        }
+    }
+}
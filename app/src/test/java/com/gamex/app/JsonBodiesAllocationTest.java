@@ -0,0 +1,85 @@
+package com.gamex.app;
+
+import com.gamex.app.models.PaginatedTransactionsResponse;
+import com.google.gson.Gson;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import okhttp3.ResponseBody;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares bytes allocated per page fetch when a transactions page is decoded from a
+ * String (the old path) versus streamed straight from the body.
+ */
+public class JsonBodiesAllocationTest {
+
+    private static final int ROWS = 100;
+    private static final int ROUNDS = 50;
+
+    private final Gson gson = new Gson();
+
+    @Test
+    public void streamingDecodeAllocatesLessThanStringDecode() throws IOException {
+        com.sun.management.ThreadMXBean threads = Allocations.counter();
+        byte[] page = TestPages.transactionsPage(ROWS).getBytes(StandardCharsets.UTF_8);
+
+        // Warm up both paths so class loading and reflective adapters are not counted.
+        for (int i = 0; i < 20; i++) {
+            decodeViaString(page);
+            decodeStreaming(page);
+        }
+
+        long viaString = allocatedPerRound(threads, page, false);
+        long streaming = allocatedPerRound(threads, page, true);
+
+        assertTrue("streaming should allocate less per " + page.length + "B page: string=" + viaString
+                + "B/op streaming=" + streaming + "B/op", streaming < viaString);
+    }
+
+    @Test
+    public void streamingDecodeMatchesStringDecode() throws IOException {
+        byte[] page = TestPages.transactionsPage(15).getBytes(StandardCharsets.UTF_8);
+
+        PaginatedTransactionsResponse expected = decodeViaString(page);
+        PaginatedTransactionsResponse actual = decodeStreaming(page);
+
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getData().size(), actual.getData().size());
+        assertEquals(expected.getData().get(14).getTargetId(), actual.getData().get(14).getTargetId());
+    }
+
+    private long allocatedPerRound(com.sun.management.ThreadMXBean threads, byte[] page, boolean streaming)
+            throws IOException {
+        ResponseBody[] bodies = new ResponseBody[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            bodies[i] = ResponseBody.create(page, JsonBodies.JSON);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (ResponseBody body : bodies) {
+            if (streaming) {
+                JsonBodies.read(gson, body, PaginatedTransactionsResponse.class);
+            } else {
+                gson.fromJson(body.string(), PaginatedTransactionsResponse.class);
+            }
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ROUNDS;
+    }
+
+    private PaginatedTransactionsResponse decodeViaString(byte[] page) throws IOException {
+        return gson.fromJson(ResponseBody.create(page, JsonBodies.JSON).string(),
+                PaginatedTransactionsResponse.class);
+    }
+
+    private PaginatedTransactionsResponse decodeStreaming(byte[] page) throws IOException {
+        return JsonBodies.read(gson, ResponseBody.create(page, JsonBodies.JSON),
+                PaginatedTransactionsResponse.class);
+    }
+}
@@ -0,0 +1,218 @@
+package com.gamex.app;
+
+import com.gamex.app.models.CreateUserRequest;
+import com.gamex.app.models.DepositRequest;
+import com.gamex.app.models.DepositResponse;
+import com.gamex.app.models.MessageResponse;
+import com.gamex.app.models.ModelTypeAdapterFactory;
+import com.gamex.app.models.MyTransactionsResponse;
+import com.gamex.app.models.PageTotalResponse;
+import com.gamex.app.models.PaginatedTransactionsResponse;
+import com.gamex.app.models.PaginatedUsersResponse;
+import com.gamex.app.models.ProductResponse;
+import com.gamex.app.models.ToggleRoleResponse;
+import com.gamex.app.models.Transaction;
+import com.gamex.app.models.TransactionRequest;
+import com.gamex.app.models.TransactionResponse;
+import com.gamex.app.models.TransactionStatusResponse;
+import com.gamex.app.models.UpdateUserRequest;
+import com.gamex.app.models.User;
+import com.gamex.app.models.UserResponse;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Hand-written model adapters versus Gson's reflective adapter on realistic admin
+ * pages. Asserts both paths decode the same and that the adapters allocate no more per
+ * page; cold (first use) and warm ns/op are reported in the assertion message.
+ */
+public class ModelTypeAdaptersBenchmarkTest {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    private static Gson reflective() {
+        return new Gson();
+    }
+
+    private static Gson handWritten() {
+        return new GsonBuilder().registerTypeAdapterFactory(new ModelTypeAdapterFactory()).create();
+    }
+
+    @Test
+    public void transactionsPagesDecodeIdentically() {
+        String json = TestPages.transactionsPage(15);
+        PaginatedTransactionsResponse expected = reflective().fromJson(json, PaginatedTransactionsResponse.class);
+        PaginatedTransactionsResponse actual = handWritten().fromJson(json, PaginatedTransactionsResponse.class);
+
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getLastPage(), actual.getLastPage());
+        assertEquals(expected.getNextPageUrl(), actual.getNextPageUrl());
+        assertEquals(expected.getData().size(), actual.getData().size());
+        for (int i = 0; i < expected.getData().size(); i++) {
+            Transaction e = expected.getData().get(i);
+            Transaction a = actual.getData().get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getTargetId(), a.getTargetId());
+            assertEquals(e.getStatus(), a.getStatus());
+            assertEquals(e.getAmountAsInt(), a.getAmountAsInt());
+            assertEquals(e.getCreatedAt(), a.getCreatedAt());
+            assertEquals(e.getProduct().getNama(), a.getProduct().getNama());
+            assertEquals(e.getProduct().isStatus(), a.getProduct().isStatus());
+        }
+    }
+
+    @Test
+    public void everyModelRoundTrips() {
+        Gson gson = handWritten();
+        assertRoundTrips(gson, TestPages.transactionsPage(3), PaginatedTransactionsResponse.class);
+        assertRoundTrips(gson, TestPages.transactionsPage(3), MyTransactionsResponse.class);
+        assertRoundTrips(gson, TestPages.usersPage(3), PaginatedUsersResponse.class);
+        assertRoundTrips(gson, TestPages.transactionsPage(3), PageTotalResponse.class);
+        assertRoundTrips(gson, "{\"success\":true,\"message\":\"ok\",\"data\":{\"deposit\":{\"id\":7,"
+                + "\"amount\":\"50000.00\",\"status\":\"pending\"},\"instructions\":[\"a\",\"b\"],"
+                + "\"status\":\"pending\"}}", DepositResponse.class);
+        assertRoundTrips(gson, "{\"category\":{\"id\":2,\"name\":\"Games\",\"products\":[]},"
+                + "\"products\":[{\"id\":5,\"nama\":\"ML 86\",\"harga\":\"20000.00\",\"status\":true}]}",
+                ProductResponse.class);
+        assertRoundTrips(gson, "{\"message\":\"ok\",\"transaction\":{\"id\":3,\"status\":\"pending\"},"
+                + "\"new_balance\":\"100.00\",\"shortage\":0}", TransactionResponse.class);
+        assertRoundTrips(gson, "{\"transaction\":{\"id\":3,\"status\":\"success\"}}", TransactionStatusResponse.class);
+        assertRoundTrips(gson, "{\"user\":{\"id\":1,\"name\":\"A\",\"balance\":\"10.00\"}}", UserResponse.class);
+        assertRoundTrips(gson, "{\"message\":\"ok\",\"user\":{\"id\":1,\"role\":\"admin\"}}", ToggleRoleResponse.class);
+        assertRoundTrips(gson, "{\"message\":\"deleted\"}", MessageResponse.class);
+
+        assertRoundTrips(gson, new CreateUserRequest("A", "a@x.id", "secret", "0812", "user"), CreateUserRequest.class);
+        assertRoundTrips(gson, new TransactionRequest(5, "123(4567)"), TransactionRequest.class);
+        assertRoundTrips(gson, new DepositRequest(50_000), DepositRequest.class);
+        UpdateUserRequest update = new UpdateUserRequest();
+        update.setName("B");
+        update.setBalance("5000");
+        assertRoundTrips(gson, update, UpdateUserRequest.class);
+    }
+
+    /** Decoding what was encoded gives back the same JSON. */
+    private static void assertRoundTrips(Gson gson, String json, Class<?> type) {
+        assertRoundTrips(gson, gson.fromJson(json, type), type);
+    }
+
+    private static void assertRoundTrips(Gson gson, Object value, Class<?> type) {
+        String encoded = gson.toJson(value, type);
+        assertEquals(type.getSimpleName(), encoded, gson.toJson(gson.fromJson(encoded, type), type));
+    }
+
+    @Test
+    public void malformedNumbersAreSyntaxErrors() {
+        assertSyntaxError("{\"id\":\"abc\",\"status\":\"pending\"}", Transaction.class);
+        assertSyntaxError("{\"id\":1.5}", Transaction.class);
+        assertSyntaxError("{\"total\":\"abc\",\"data\":[]}", PaginatedTransactionsResponse.class);
+        assertSyntaxError("{\"total\":1.5}", PageTotalResponse.class);
+    }
+
+    private static void assertSyntaxError(String json, Class<?> type) {
+        try {
+            handWritten().fromJson(json, type);
+            fail("expected a JsonSyntaxException for " + json);
+        } catch (JsonSyntaxException expected) {
+            // JsonBodies.read turns this into the IOException ApiService reports.
+        }
+    }
+
+    @Test
+    public void pageTotalReadsOnlyTheTotal() {
+        PaginatedTransactionsResponse transactions = handWritten()
+                .fromJson(TestPages.transactionsPage(15), PaginatedTransactionsResponse.class);
+        PaginatedUsersResponse users = handWritten().fromJson(TestPages.usersPage(15), PaginatedUsersResponse.class);
+
+        assertEquals(transactions.getTotal(),
+                handWritten().fromJson(TestPages.transactionsPage(15), PageTotalResponse.class).getTotal());
+        assertEquals(users.getTotal(),
+                handWritten().fromJson(TestPages.usersPage(15), PageTotalResponse.class).getTotal());
+    }
+
+    @Test
+    public void usersPagesDecodeIdentically() {
+        String json = TestPages.usersPage(15);
+        PaginatedUsersResponse expected = reflective().fromJson(json, PaginatedUsersResponse.class);
+        PaginatedUsersResponse actual = handWritten().fromJson(json, PaginatedUsersResponse.class);
+
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getData().size(), actual.getData().size());
+        for (int i = 0; i < expected.getData().size(); i++) {
+            User e = expected.getData().get(i);
+            User a = actual.getData().get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getEmail(), a.getEmail());
+            assertEquals(e.getRole(), a.getRole());
+            assertEquals(e.getBalanceAsInt(), a.getBalanceAsInt());
+        }
+    }
+
+    @Test
+    public void benchmarkAdminPages() {
+        for (int rows : new int[] {15, 50, 100}) {
+            String transactions = TestPages.transactionsPage(rows);
+            String users = TestPages.usersPage(rows);
+
+            report("transactions x" + rows,
+                    json -> reflective().fromJson(json, PaginatedTransactionsResponse.class),
+                    json -> handWritten().fromJson(json, PaginatedTransactionsResponse.class),
+                    transactions);
+            report("users x" + rows,
+                    json -> reflective().fromJson(json, PaginatedUsersResponse.class),
+                    json -> handWritten().fromJson(json, PaginatedUsersResponse.class),
+                    users);
+        }
+    }
+
+    private static void report(String label, Function<String, Object> coldReflective,
+                               Function<String, Object> coldHandWritten, String json) {
+        com.sun.management.ThreadMXBean threads = Allocations.counter();
+        long reflectiveCold = time(coldReflective, json, 1);
+        long handWrittenCold = time(coldHandWritten, json, 1);
+
+        Gson reflective = reflective();
+        Gson handWritten = handWritten();
+        Class<?> type = label.startsWith("users") ? PaginatedUsersResponse.class : PaginatedTransactionsResponse.class;
+        time(s -> reflective.fromJson(s, type), json, WARMUP);
+        time(s -> handWritten.fromJson(s, type), json, WARMUP);
+        long reflectiveWarm = time(s -> reflective.fromJson(s, type), json, ITERATIONS);
+        long handWrittenWarm = time(s -> handWritten.fromJson(s, type), json, ITERATIONS);
+        long reflectiveBytes = allocated(threads, s -> reflective.fromJson(s, type), json);
+        long handWrittenBytes = allocated(threads, s -> handWritten.fromJson(s, type), json);
+
+        // Timings are too noisy to assert on; they ride along in the message.
+        assertTrue(label + ": hand-written adapters should not allocate more than reflection:"
+                        + " cold reflective=" + reflectiveCold + "ns handWritten=" + handWrittenCold + "ns"
+                        + " | warm reflective=" + reflectiveWarm + "ns/op " + reflectiveBytes + "B/op"
+                        + " handWritten=" + handWrittenWarm + "ns/op " + handWrittenBytes + "B/op",
+                handWrittenBytes <= reflectiveBytes);
+    }
+
+    private static long allocated(com.sun.management.ThreadMXBean threads, Function<String, Object> decode,
+                                  String json) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            decode.apply(json);
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    private static long time(Function<String, Object> decode, String json, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            decode.apply(json);
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+}
@@ -0,0 +1,70 @@
+package com.gamex.app;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NetworkMetricsTest {
+
+    @Test
+    public void namesEndpointsIgnoringIds() {
+        assertEquals("me", NetworkMetrics.endpointName("GET", "/api/auth/me", false));
+        assertEquals("login", NetworkMetrics.endpointName("POST", "/api/auth/login", false));
+        assertEquals("products", NetworkMetrics.endpointName("GET", "/api/categories/7/products", false));
+        assertEquals("transactions_page", NetworkMetrics.endpointName("GET", "/api/transactions", true));
+        assertEquals("transaction_create", NetworkMetrics.endpointName("POST", "/api/transactions", false));
+        assertEquals("transactions_my", NetworkMetrics.endpointName("GET", "/api/transactions/my", false));
+        assertEquals("transaction_status", NetworkMetrics.endpointName("GET", "/api/transactions/12", false));
+        assertEquals("transaction_refresh", NetworkMetrics.endpointName("GET", "/api/transactions/12/refresh-status", false));
+        assertEquals("deposit_create", NetworkMetrics.endpointName("POST", "/api/deposits", false));
+        assertEquals("deposit_status", NetworkMetrics.endpointName("GET", "/api/deposits/3/refresh-status", false));
+        assertEquals("admin_users_page", NetworkMetrics.endpointName("GET", "/api/admin/users", true));
+        assertEquals("admin_user_delete", NetworkMetrics.endpointName("DELETE", "/api/admin/users/4", false));
+        assertEquals("admin_user_toggle_role", NetworkMetrics.endpointName("POST", "/api/admin/users/4/toggle-role", false));
+        assertEquals("other", NetworkMetrics.endpointName("GET", "/", false));
+        assertEquals(NetworkMetrics.PRECONNECT, NetworkMetrics.endpointName("HEAD", "/", false));
+    }
+
+    @Test
+    public void histogramPercentilesStayWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        assertWithin(50_000, histogram.percentileMicros(0.50));
+        assertWithin(95_000, histogram.percentileMicros(0.95));
+        assertWithin(99_000, histogram.percentileMicros(0.99));
+        assertEquals(100_000, histogram.percentileMicros(1.0));
+        assertEquals(100_000, histogram.count());
+    }
+
+    @Test
+    public void bucketsCoverEveryValueOnce() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.upperBound(index));
+            assertTrue(index == 0 || value > LatencyHistogram.upperBound(index - 1));
+        }
+    }
+
+    @Test
+    public void reportListsRecordedPhases() {
+        NetworkMetrics.reset();
+        NetworkMetrics.EndpointStats stats = NetworkMetrics.statsFor("me");
+        stats.phase(NetworkMetrics.Phase.TOTAL).record(12_000);
+        stats.phase(NetworkMetrics.Phase.TTFB).record(9_000);
+        stats.finish(false, 300, 1_200);
+
+        String report = NetworkMetrics.report();
+        assertTrue(report, report.contains("me: calls=1 failed=0 sent=300B received=1200B"));
+        assertTrue(report, report.contains("ttfb"));
+        assertTrue(report, !report.contains("dns"));
+        NetworkMetrics.reset();
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(expected + " vs " + actual, Math.abs(actual - expected) <= expected / 8);
+    }
+}
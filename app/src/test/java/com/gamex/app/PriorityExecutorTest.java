@@ -0,0 +1,36 @@
+package com.gamex.app;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import static org.junit.Assert.assertEquals;
+
+public class PriorityExecutorTest {
+
+    @Test
+    public void queuedTasksRunByPriorityThenArrival() {
+        PriorityBlockingQueue<PriorityExecutor.Task> queue = new PriorityBlockingQueue<>();
+        queue.add(task(RequestPriority.PREFETCH, 0));
+        queue.add(task(RequestPriority.VISIBLE, 1));
+        queue.add(task(RequestPriority.VISIBLE, 2));
+        queue.add(task(RequestPriority.INTERACTIVE, 3));
+        queue.add(task(RequestPriority.PREFETCH, 4));
+
+        List<String> order = new ArrayList<>();
+        PriorityExecutor.Task next;
+        while ((next = queue.poll()) != null) {
+            order.add(next.priority + " " + next.sequence);
+        }
+
+        assertEquals(Arrays.asList(
+                "INTERACTIVE 3", "VISIBLE 1", "VISIBLE 2", "PREFETCH 0", "PREFETCH 4"), order);
+    }
+
+    private static PriorityExecutor.Task task(RequestPriority priority, long sequence) {
+        return new PriorityExecutor.Task(() -> { }, priority, sequence);
+    }
+}
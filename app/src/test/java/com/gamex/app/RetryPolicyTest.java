@@ -0,0 +1,164 @@
+package com.gamex.app;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RetryPolicyTest {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    /** Stand-in backend that hangs up on the first {@code drops} connections mid-request. */
+    private ServerSocket server;
+    private Thread serverThread;
+    private final List<String> seenKeys = Collections.synchronizedList(new ArrayList<>());
+    private volatile int drops;
+
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            // Only RetryPolicy may resend; OkHttp's silent retry would hide what is tested.
+            .retryOnConnectionFailure(false)
+            .build();
+    private final List<Long> sleeps = new ArrayList<>();
+    private final RetryPolicy.Sleeper recordingSleeper = sleeps::add;
+
+    @Before
+    public void startServer() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        serverThread = new Thread(() -> {
+            while (!server.isClosed()) {
+                try (Socket socket = server.accept()) {
+                    serve(socket);
+                } catch (IOException ignored) {
+                    // Closed by stopServer() or by the client.
+                }
+            }
+        });
+        serverThread.start();
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        server.close();
+        serverThread.join(5_000L);
+    }
+
+    @Test
+    public void resendsWithTheSameKeyAfterADroppedConnection() throws IOException {
+        drops = 2;
+
+        try (Response response = RetryPolicy.CREATE.execute(client, createRequest("key-1"),
+                recordingSleeper, new Random(1))) {
+            assertEquals(201, response.code());
+        }
+
+        assertEquals(3, seenKeys.size());
+        for (String key : seenKeys) {
+            assertEquals("key-1", key);
+        }
+        assertEquals(2, sleeps.size());
+    }
+
+    @Test
+    public void givesUpAfterMaxAttempts() {
+        drops = Integer.MAX_VALUE;
+
+        try {
+            RetryPolicy.CREATE.execute(client, createRequest("key-2"), recordingSleeper, new Random(1)).close();
+            fail("expected the last connection failure");
+        } catch (IOException expected) {
+            assertEquals(3, seenKeys.size());
+        }
+    }
+
+    @Test
+    public void delaysGrowAndStayWithinBounds() {
+        RetryPolicy policy = new RetryPolicy(6, 400L, 3_000L);
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            long first = policy.delayMillis(1, random);
+            long second = policy.delayMillis(2, random);
+            long late = policy.delayMillis(5, random);
+            assertTrue(first >= 200L && first <= 400L);
+            assertTrue(second >= 400L && second <= 800L);
+            assertTrue(late >= 1_500L && late <= 3_000L);
+        }
+    }
+
+    @Test
+    public void doesNotRetryCertificateFailures() {
+        assertFalse(RetryPolicy.isRetryable(new javax.net.ssl.SSLPeerUnverifiedException("pin")));
+        assertFalse(RetryPolicy.isRetryable(new java.io.InterruptedIOException("Canceled")));
+        assertTrue(RetryPolicy.isRetryable(new java.net.SocketTimeoutException("timeout")));
+        assertTrue(RetryPolicy.isRetryable(new java.net.ConnectException("refused")));
+    }
+
+    private Request createRequest(String key) {
+        return new Request.Builder()
+                .url("http://127.0.0.1:" + server.getLocalPort() + "/api/transactions")
+                .addHeader(RetryPolicy.IDEMPOTENCY_HEADER, key)
+                .post(RequestBody.create("{\"product_id\":1}", JSON))
+                .build();
+    }
+
+    private void serve(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String key = null;
+        int contentLength = 0;
+        for (String line = in.readLine(); line != null && !line.isEmpty(); line = in.readLine()) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim();
+            String value = line.substring(colon + 1).trim();
+            if (name.equalsIgnoreCase(RetryPolicy.IDEMPOTENCY_HEADER)) {
+                key = value;
+            } else if (name.equalsIgnoreCase("Content-Length")) {
+                contentLength = Integer.parseInt(value);
+            }
+        }
+        seenKeys.add(key);
+
+        if (drops > 0) {
+            drops--;
+            // Hang up after the headers, before the body is read or anything is answered.
+            return;
+        }
+
+        for (int i = 0; i < contentLength; i++) {
+            in.read();
+        }
+        OutputStream out = socket.getOutputStream();
+        out.write(("HTTP/1.1 201 Created\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Content-Length: 2\r\n"
+                + "Connection: close\r\n"
+                + "\r\n"
+                + "{}").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
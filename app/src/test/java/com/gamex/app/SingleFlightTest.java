@@ -0,0 +1,50 @@
+package com.gamex.app;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SingleFlightTest {
+
+    @Test
+    public void concurrentCallersShareOneRequest() {
+        SingleFlight<String> flights = new SingleFlight<>();
+
+        assertTrue(flights.join("GET /api/auth/me a", "main"));
+        assertFalse(flights.join("GET /api/auth/me a", "home"));
+        assertFalse(flights.join("GET /api/auth/me a", "game"));
+
+        assertEquals(Arrays.asList("main", "home", "game"), flights.finish("GET /api/auth/me a"));
+        assertEquals(1, flights.startedCount());
+        assertEquals(2, flights.collapsedCount());
+    }
+
+    @Test
+    public void differentKeysDoNotCollapse() {
+        SingleFlight<String> flights = new SingleFlight<>();
+
+        assertTrue(flights.join("GET /api/auth/me a", "first"));
+        assertTrue(flights.join("GET /api/auth/me b", "other account"));
+
+        assertEquals(Collections.singletonList("first"), flights.finish("GET /api/auth/me a"));
+        assertEquals(0, flights.collapsedCount());
+    }
+
+    @Test
+    public void finishedKeyStartsAgain() {
+        SingleFlight<String> flights = new SingleFlight<>();
+
+        assertTrue(flights.join("key", "first"));
+        flights.finish("key");
+
+        assertTrue(flights.join("key", "second"));
+        assertEquals(Collections.singletonList("second"), flights.finish("key"));
+        assertEquals(Collections.emptyList(), flights.finish("key"));
+        assertEquals(2, flights.startedCount());
+    }
+}
@@ -0,0 +1,129 @@
+package com.gamex.app;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class StatusPollerTest {
+
+    private static final long[] INTERVALS = {1_000L, 2_000L, 5_000L, 15_000L};
+
+    /** Holds at most one scheduled task, like the real poller's single tick. */
+    private static final class FakeScheduler implements StatusPoller.Scheduler {
+        Runnable pending;
+        final List<Long> delays = new ArrayList<>();
+
+        @Override
+        public void schedule(Runnable task, long delayMs) {
+            pending = task;
+            delays.add(delayMs);
+        }
+
+        @Override
+        public void cancel(Runnable task) {
+            if (pending == task) {
+                pending = null;
+            }
+        }
+
+        void fire() {
+            Runnable task = pending;
+            pending = null;
+            task.run();
+        }
+    }
+
+    private final FakeScheduler scheduler = new FakeScheduler();
+    private int sent;
+    private final StatusPoller poller = new StatusPoller(INTERVALS, 6, () -> sent++, scheduler);
+
+    @Test
+    public void backsOffAndStaysOnTheLastInterval() {
+        poller.resume();
+        for (int i = 0; i < 5; i++) {
+            poller.onResult(false);
+            scheduler.fire();
+        }
+
+        assertEquals(6, sent);
+        assertEquals(List.of(1_000L, 2_000L, 5_000L, 15_000L, 15_000L), scheduler.delays);
+    }
+
+    @Test
+    public void stopsAtATerminalStatus() {
+        poller.resume();
+        poller.onResult(false);
+        scheduler.fire();
+        poller.onResult(true);
+
+        assertTrue(poller.isFinished());
+        assertNull(scheduler.pending);
+        poller.resume();
+        assertEquals(2, sent);
+    }
+
+    @Test
+    public void stopsPollingAtTheCapButStillRefreshesOnRequest() {
+        poller.resume();
+        for (int i = 0; i < 5; i++) {
+            poller.onResult(false);
+            scheduler.fire();
+        }
+        poller.onResult(false);
+
+        assertNull(scheduler.pending);
+        assertEquals(6, poller.pollCount());
+        assertTrue(poller.refreshNow());
+        assertEquals(7, sent);
+    }
+
+    @Test
+    public void manualRefreshJoinsTheRequestInFlight() {
+        poller.resume();
+
+        assertFalse(poller.refreshNow());
+        assertEquals(1, sent);
+
+        poller.onResult(false);
+        assertTrue(poller.refreshNow());
+        assertNull("a manual refresh replaces the scheduled poll", scheduler.pending);
+        assertEquals(2, sent);
+    }
+
+    @Test
+    public void resumeReportsWhetherItSent() {
+        int[] offlineSent = {0};
+        StatusPoller[] offline = new StatusPoller[1];
+        // Offline, the request fails before send() returns.
+        offline[0] = new StatusPoller(INTERVALS, 6, () -> {
+            offlineSent[0]++;
+            offline[0].onResult(false);
+        }, scheduler);
+
+        assertTrue(offline[0].resume());
+        assertEquals(1, offlineSent[0]);
+        assertEquals(List.of(1_000L), scheduler.delays);
+
+        StatusPoller exhausted = new StatusPoller(INTERVALS, 0, () -> sent++, scheduler);
+        assertFalse(exhausted.resume());
+        assertEquals(0, sent);
+    }
+
+    @Test
+    public void pausesInTheBackgroundAndChecksAgainOnResume() {
+        poller.resume();
+        poller.pause();
+        poller.onResult(false);
+
+        assertNull(scheduler.pending);
+
+        poller.resume();
+        assertEquals(2, sent);
+    }
+}
@@ -0,0 +1,80 @@
+package com.gamex.app;
+
+/**
+ * Builds realistic Laravel paginator payloads for the JVM tests and benchmarks.
+ */
+final class TestPages {
+
+    private TestPages() {
+        // Utility class.
+    }
+
+    static String transactionsPage(int rows) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"current_page\":1,\"data\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(1000 + i)
+                    .append(",\"user_id\":").append(7)
+                    .append(",\"product_id\":").append(40 + i % 12)
+                    .append(",\"target_id\":\"").append(81234500 + i).append('"')
+                    .append(",\"server_id\":null")
+                    .append(",\"payment_method\":\"balance\"")
+                    .append(",\"amount\":\"").append(15000 + i * 250).append(".00\"")
+                    .append(",\"status\":\"").append(i % 5 == 0 ? "pending" : "success").append('"')
+                    .append(",\"provider_trx_id\":\"TRX").append(900000 + i).append('"')
+                    .append(",\"created_at\":\"2025-11-16T10:07:23.000000Z\"")
+                    .append(",\"updated_at\":\"2025-11-16T10:08:01.000000Z\"")
+                    .append(",\"product\":{\"id\":").append(40 + i % 12)
+                    .append(",\"kode\":\"ML").append(i % 12).append('"')
+                    .append(",\"nama\":\"Mobile Legends ").append(86 + i % 12).append(" Diamonds\"")
+                    .append(",\"keterangan\":\"").append(86 + i % 12).append(" Diamonds (78 + 8 Bonus)\"")
+                    .append(",\"harga\":\"").append(15000 + i * 250).append(".00\"")
+                    .append(",\"status\":true")
+                    .append(",\"created_at\":\"2025-10-01T08:00:00.000000Z\"")
+                    .append(",\"updated_at\":\"2025-10-01T08:00:00.000000Z\"")
+                    .append(",\"category_id\":6}}");
+        }
+        json.append("],\"first_page_url\":\"https://api.amazon.web.id/api/transactions?page=1\"")
+                .append(",\"from\":1,\"last_page\":9")
+                .append(",\"last_page_url\":\"https://api.amazon.web.id/api/transactions?page=9\"")
+                .append(",\"links\":[{\"url\":null,\"label\":\"&laquo; Previous\",\"active\":false}]")
+                .append(",\"next_page_url\":\"https://api.amazon.web.id/api/transactions?page=2\"")
+                .append(",\"path\":\"https://api.amazon.web.id/api/transactions\"")
+                .append(",\"per_page\":").append(rows)
+                .append(",\"prev_page_url\":null,\"to\":").append(rows)
+                .append(",\"total\":").append(rows * 9).append('}');
+        return json.toString();
+    }
+
+    static String usersPage(int rows) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"current_page\":1,\"data\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i + 1)
+                    .append(",\"name\":\"Player ").append(i).append('"')
+                    .append(",\"email\":\"player").append(i).append("@gamex.id\"")
+                    .append(",\"phone\":\"0812000").append(1000 + i).append('"')
+                    .append(",\"role\":\"").append(i == 0 ? "admin" : "user").append('"')
+                    .append(",\"balance\":\"").append(250000 + i * 1000).append(".00\"")
+                    .append(",\"email_verified_at\":null")
+                    .append(",\"created_at\":\"2025-09-01T12:00:00.000000Z\"")
+                    .append(",\"updated_at\":\"2025-11-16T10:07:23.000000Z\"}");
+        }
+        json.append("],\"first_page_url\":\"https://api.amazon.web.id/api/admin/users?page=1\"")
+                .append(",\"from\":1,\"last_page\":4")
+                .append(",\"last_page_url\":\"https://api.amazon.web.id/api/admin/users?page=4\"")
+                .append(",\"links\":[]")
+                .append(",\"next_page_url\":\"https://api.amazon.web.id/api/admin/users?page=2\"")
+                .append(",\"path\":\"https://api.amazon.web.id/api/admin/users\"")
+                .append(",\"per_page\":").append(rows)
+                .append(",\"prev_page_url\":null,\"to\":").append(rows)
+                .append(",\"total\":").append(rows * 4).append('}');
+        return json.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.gamex.app.models;
+
+import com.google.gson.Gson;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MoneyTest {
+
+    @Test
+    public void parsesApiDecimalStrings() {
+        assertEquals(1500000L, Money.parse("15000.00").getMinorUnits());
+        assertEquals(1500050L, Money.parse("15000.5").getMinorUnits());
+        assertEquals(1500000L, Money.parse("15000").getMinorUnits());
+        assertEquals(-1250L, Money.parse("-12.50").getMinorUnits());
+        assertEquals(999L, Money.parse("9.999").getMinorUnits());
+    }
+
+    @Test
+    public void matchesOldParseDoubleTruncation() {
+        String[] inputs = {"0", "0.99", "15000.00", "15000.75", "2147483647.00", "-3.5"};
+        for (String input : inputs) {
+            assertEquals(input, (int) Double.parseDouble(input), Money.parse(input).intValue());
+        }
+    }
+
+    @Test
+    public void invalidInputIsZero() {
+        assertSame(Money.ZERO, Money.parse(null));
+        assertSame(Money.ZERO, Money.parse(""));
+        assertSame(Money.ZERO, Money.parse("-"));
+        assertSame(Money.ZERO, Money.parse("."));
+        assertSame(Money.ZERO, Money.parse("12a"));
+        assertSame(Money.ZERO, Money.parse("1.2.3"));
+        assertSame(Money.ZERO, Money.parse("123456789012345678"));
+    }
+
+    @Test
+    public void largestWholePartParsesAndOneMoreDigitIsZero() {
+        assertEquals(999_999_999_999_999_999L, Money.parse("9999999999999999.99").getMinorUnits());
+        assertEquals(-999_999_999_999_999_900L, Money.parse("-9999999999999999").getMinorUnits());
+        assertSame(Money.ZERO, Money.parse("99999999999999999"));
+        assertSame(Money.ZERO, Money.parse("-99999999999999999.00"));
+    }
+
+    @Test
+    public void plainStringRoundTrips() {
+        assertEquals("15000.00", Money.parse("15000").toPlainString());
+        assertEquals("0.05", Money.ofMinor(5).toPlainString());
+        assertEquals("-12.50", Money.parse("-12.5").toPlainString());
+        assertEquals(Money.ofWhole(15000), Money.parse(Money.ofWhole(15000).toPlainString()));
+    }
+
+    @Test
+    public void decodesFromStringsNumbersAndNulls() {
+        Gson gson = new Gson();
+        assertEquals(Money.ofWhole(15000), gson.fromJson("\"15000.00\"", Money.class));
+        assertEquals(Money.ofMinor(1500050), gson.fromJson("15000.5", Money.class));
+        assertEquals(Money.ZERO, gson.fromJson("{\"balance\":null}", User.class).getBalance());
+        assertEquals(25000, gson.fromJson("{\"amount\":\"25000.00\"}", Transaction.class).getAmountAsInt());
+    }
+}
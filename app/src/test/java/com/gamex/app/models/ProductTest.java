@@ -0,0 +1,35 @@
+package com.gamex.app.models;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ProductTest {
+
+    private static final String PRODUCTS = "{\"products\":[{\"id\":7,\"kode\":\"ML86\",\"nama\":\"86 Diamonds\","
+            + "\"keterangan\":\"86 (78+8)\",\"harga\":\"%s\",\"status\":1,\"category_id\":6,"
+            + "\"created_at\":\"2025-11-16T10:07:23.000000Z\",\"updated_at\":\"2025-11-16T10:07:23.000000Z\"}]}";
+
+    private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ModelTypeAdapterFactory()).create();
+
+    @Test
+    public void identicalPayloadsAreEqual() {
+        ProductResponse first = gson.fromJson(String.format(PRODUCTS, "21000.00"), ProductResponse.class);
+        ProductResponse second = gson.fromJson(String.format(PRODUCTS, "21000"), ProductResponse.class);
+
+        assertEquals(first.getProducts(), second.getProducts());
+        assertEquals(first.getProducts().hashCode(), second.getProducts().hashCode());
+    }
+
+    @Test
+    public void priceChangeIsDetected() {
+        ProductResponse before = gson.fromJson(String.format(PRODUCTS, "21000.00"), ProductResponse.class);
+        ProductResponse after = gson.fromJson(String.format(PRODUCTS, "22000.00"), ProductResponse.class);
+
+        assertNotEquals(before.getProducts(), after.getProducts());
+    }
+}